@@ -7,8 +7,8 @@ docker rmi philsohanse/noriter:1.0
 # 도커허브 이미지 pull
 docker pull philsohanse/noriter:1.0
 
-# 도커 run
-docker run -d -p 80:8080 --name noriter philsohanse/noriter:1.0
+# 도커 run (찜 수 로그는 컨테이너를 지워도 남도록 이름 있는 볼륨에 저장)
+docker run -d -p 80:8080 -v noriter-wish-count-log:/var/lib/noriter/wish-count-log --name noriter philsohanse/noriter:1.0
 
 # 사용하지 않는 불필요한 이미지 삭제 -> 현재 컨테이너가 물고 있는 이미지는 삭제되지 않습니다.
 docker rmi -f $(docker images -f "dangling=true" -q) || true
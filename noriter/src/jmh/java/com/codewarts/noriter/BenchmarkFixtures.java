@@ -0,0 +1,105 @@
+package com.codewarts.noriter;
+
+import com.codewarts.noriter.article.domain.Gathering;
+import com.codewarts.noriter.article.domain.type.StatusType;
+import com.codewarts.noriter.article.dto.article.ArticleListRow;
+import com.codewarts.noriter.auth.oauth.type.ResourceServer;
+import com.codewarts.noriter.comment.domain.Comment;
+import com.codewarts.noriter.member.domain.Member;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 벤치마크 입력 데이터. 실제 요청과 비슷한 길이의 제목, 본문, 해시태그를 만든다.
+public final class BenchmarkFixtures {
+
+    private static final LocalDateTime CREATED_TIME = LocalDateTime.of(2022, 11, 11, 16, 25, 58);
+    private static final String TITLE = "스프링 스터디 모집합니다 - 주 2회 강남역";
+    private static final String CONTENT = "JPA 와 스프링 부트를 함께 공부할 분을 찾습니다. "
+        + "매주 화요일, 목요일 저녁 7시에 모여 한 챕터씩 읽고 이야기합니다.";
+    private static final List<String> HASHTAGS = List.of("SPRING", "JPA", "스터디");
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<ArticleListRow> listRows(int count) {
+        List<ArticleListRow> rows = new ArrayList<>(count);
+        for (long id = count; id > 0; id--) {
+            rows.add(new ArticleListRow(id, TITLE, CONTENT, id % 50, "writer" + id % 50,
+                CREATED_TIME, CREATED_TIME, (int) (id % 7), (int) (id % 13),
+                id % 2 == 0 ? StatusType.COMPLETE : StatusType.INCOMPLETE));
+        }
+        return rows;
+    }
+
+    public static Map<Long, List<String>> hashtags(List<ArticleListRow> rows) {
+        Map<Long, List<String>> hashtags = new HashMap<>();
+        for (ArticleListRow row : rows) {
+            hashtags.put(row.getId(), HASHTAGS);
+        }
+        return hashtags;
+    }
+
+    public static Member member(long id) {
+        Member member = Member.builder()
+            .resourceServer(ResourceServer.GITHUB)
+            .resourceServerId(id)
+            .nickname("writer" + id)
+            .email("writer" + id + "@noriter.test")
+            .profileImageUrl("https://avatars.githubusercontent.com/u/" + id)
+            .build();
+        setId(member, id);
+        return member;
+    }
+
+    public static Gathering gathering(long id, Member writer) {
+        return Gathering.builder()
+            .id(id)
+            .title(TITLE)
+            .content(CONTENT)
+            .writer(writer)
+            .status(StatusType.INCOMPLETE)
+            .wishCount(3)
+            .commentCount(12)
+            .build();
+    }
+
+    // 조회 쿼리처럼 id 순으로, 댓글마다 replies 개의 대댓글을 단다.
+    // 대댓글에는 다시 대댓글을 달 수 없으므로 트리의 깊이는 최대 2 이다.
+    public static List<Comment> comments(int roots, int replies) {
+        List<Member> writers = List.of(member(1), member(2), member(3));
+        List<Comment> comments = new ArrayList<>(roots * (replies + 1));
+        long id = 1;
+        for (int i = 0; i < roots; i++) {
+            Comment root = comment(id++, null, writers.get(i % writers.size()));
+            comments.add(root);
+            for (int j = 0; j < replies; j++) {
+                comments.add(comment(id++, root, writers.get(j % writers.size())));
+            }
+        }
+        return comments;
+    }
+
+    private static Comment comment(long id, Comment parent, Member writer) {
+        return Comment.builder()
+            .id(id)
+            .parent(parent)
+            .children(new ArrayList<>())
+            .writer(writer)
+            .content("잘 봤습니다. 저도 참여하고 싶어요! 시간 맞으면 연락 부탁드립니다.")
+            .build();
+    }
+
+    private static void setId(Member member, long id) {
+        try {
+            Field field = Member.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(member, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.codewarts.noriter.article.dto;
+
+import com.codewarts.noriter.BenchmarkFixtures;
+import com.codewarts.noriter.article.dto.article.ArticleListResponse;
+import com.codewarts.noriter.article.dto.article.ArticleListRow;
+import com.codewarts.noriter.article.dto.article.ArticlePageResponse;
+import com.codewarts.noriter.article.dto.gathering.GatheringListResponse;
+import com.codewarts.noriter.article.dto.playground.PlaygroundListResponse;
+import com.codewarts.noriter.article.dto.question.QuestionListResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 캐시된 목록 행으로 조회자별 목록 응답을 만드는 비용. 서비스의 toPageResponse 와 같은 순서로 만든다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleListResponseBenchmark {
+
+    private static final long MEMBER_ID = 7L;
+
+    @Param({"20", "100", "1000"})
+    private int articleCount;
+
+    private List<ArticleListRow> rows;
+    private Map<Long, List<String>> hashtags;
+    private Set<Long> wishedArticleIds;
+
+    @Setup
+    public void setUp() {
+        rows = BenchmarkFixtures.listRows(articleCount);
+        hashtags = BenchmarkFixtures.hashtags(rows);
+        wishedArticleIds = rows.stream()
+            .map(ArticleListRow::getId)
+            .filter(id -> id % 3 == 0)
+            .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public ArticlePageResponse gathering() {
+        List<ArticleListResponse> responses = rows.stream()
+            .map(row -> new GatheringListResponse(row, hashtags.get(row.getId()),
+                row.getWriterId().equals(MEMBER_ID), wishedArticleIds.contains(row.getId())))
+            .collect(Collectors.toList());
+        return ArticlePageResponse.of(responses, articleCount - 1);
+    }
+
+    @Benchmark
+    public ArticlePageResponse question() {
+        List<ArticleListResponse> responses = rows.stream()
+            .map(row -> new QuestionListResponse(row, hashtags.get(row.getId()),
+                row.getWriterId().equals(MEMBER_ID), wishedArticleIds.contains(row.getId())))
+            .collect(Collectors.toList());
+        return ArticlePageResponse.of(responses, articleCount - 1);
+    }
+
+    @Benchmark
+    public ArticlePageResponse playground() {
+        List<ArticleListResponse> responses = rows.stream()
+            .map(row -> new PlaygroundListResponse(row, hashtags.get(row.getId()),
+                row.getWriterId().equals(MEMBER_ID), wishedArticleIds.contains(row.getId())))
+            .collect(Collectors.toList());
+        return ArticlePageResponse.of(responses, articleCount - 1);
+    }
+}
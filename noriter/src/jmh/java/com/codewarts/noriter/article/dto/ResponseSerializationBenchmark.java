@@ -0,0 +1,72 @@
+package com.codewarts.noriter.article.dto;
+
+import com.codewarts.noriter.BenchmarkFixtures;
+import com.codewarts.noriter.article.domain.Gathering;
+import com.codewarts.noriter.article.dto.article.ArticleListResponse;
+import com.codewarts.noriter.article.dto.article.ArticleListRow;
+import com.codewarts.noriter.article.dto.article.ArticlePageResponse;
+import com.codewarts.noriter.article.dto.gathering.GatheringDetailResponse;
+import com.codewarts.noriter.article.dto.gathering.GatheringListResponse;
+import com.codewarts.noriter.comment.service.CommentTreeAssembler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// 목록, 상세 응답의 JSON 직렬화 비용.
+// @EnableWebMvc 의 메시지 컨버터와 같은 설정의 ObjectMapper 를 쓴다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int articleCount;
+
+    private ObjectMapper objectMapper;
+    private ArticlePageResponse listResponse;
+    private GatheringDetailResponse detailResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<ArticleListRow> rows = BenchmarkFixtures.listRows(articleCount);
+        Map<Long, List<String>> hashtags = BenchmarkFixtures.hashtags(rows);
+        List<ArticleListResponse> responses = rows.stream()
+            .map(row -> new GatheringListResponse(row, hashtags.get(row.getId()), false, false))
+            .collect(Collectors.toList());
+        listResponse = ArticlePageResponse.of(responses, articleCount - 1);
+
+        Gathering gathering = BenchmarkFixtures.gathering(1L, BenchmarkFixtures.member(1L));
+        detailResponse = new GatheringDetailResponse(gathering, hashtags.get(1L),
+            CommentTreeAssembler.toTree(BenchmarkFixtures.comments(10, 3)), false, false);
+    }
+
+    @Benchmark
+    public byte[] list() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(listResponse);
+    }
+
+    @Benchmark
+    public byte[] detail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detailResponse);
+    }
+}
@@ -0,0 +1,86 @@
+package com.codewarts.noriter.auth.jwt;
+
+import static com.codewarts.noriter.auth.utils.OAuthUtils.ACCESS_TOKEN;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 요청 하나의 액세스 토큰 인증 비용을 비교한다.
+// perRequestVerifier 는 검증기를 매번 만들고 토큰을 두 번 파싱하던 이전 방식이다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String ISSUER = "noriter";
+    private static final String SECRET_KEY = "benchmark-secret-key";
+
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+    private JwtProvider cachedProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        algorithm = Algorithm.HMAC256(SECRET_KEY);
+        verifier = JWT.require(algorithm)
+            .withIssuer(ISSUER)
+            .withSubject(ACCESS_TOKEN)
+            .build();
+        cachedProvider = new JwtProvider(new JwtProperties(ISSUER, SECRET_KEY),
+            new VerifiedTokenCache(new SimpleMeterRegistry()));
+        accessToken = cachedProvider.issueAccessToken(1L);
+        cachedProvider.verifyToken(accessToken);
+    }
+
+    @Benchmark
+    public Long perRequestVerifier() {
+        JWT.require(algorithm)
+            .withIssuer(ISSUER)
+            .withSubject(ACCESS_TOKEN)
+            .build()
+            .verify(accessToken);
+        return JWT.decode(accessToken)
+            .getClaim("memberId")
+            .asLong();
+    }
+
+    @Benchmark
+    public Long sharedVerifierSingleParse() {
+        return verifier.verify(accessToken)
+            .getClaim("memberId")
+            .asLong();
+    }
+
+    @Benchmark
+    public Long cachedVerification() {
+        return cachedProvider.verifyToken(accessToken);
+    }
+
+    @Benchmark
+    public String issueAccessToken() {
+        return cachedProvider.issueAccessToken(1L);
+    }
+
+    // 서명 검증 없이 payload 만 읽는 비용. 검증 비용과 비교하는 기준이다.
+    @Benchmark
+    public Long decode() {
+        return cachedProvider.decode(accessToken);
+    }
+}
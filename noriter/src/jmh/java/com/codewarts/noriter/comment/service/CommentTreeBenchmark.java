@@ -0,0 +1,47 @@
+package com.codewarts.noriter.comment.service;
+
+import com.codewarts.noriter.BenchmarkFixtures;
+import com.codewarts.noriter.comment.domain.Comment;
+import com.codewarts.noriter.comment.dto.comment.CommentResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 조회한 댓글 목록으로 상세 응답의 댓글 트리를 만드는 비용.
+// 댓글 트리의 깊이는 2 로 고정이므로 댓글 수와 댓글당 대댓글 수를 바꿔 가며 잰다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentTreeBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int rootCount;
+
+    @Param({"0", "3", "20"})
+    private int replyCount;
+
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        comments = BenchmarkFixtures.comments(rootCount, replyCount);
+    }
+
+    @Benchmark
+    public List<CommentResponse> toTree() {
+        return CommentTreeAssembler.toTree(comments);
+    }
+}
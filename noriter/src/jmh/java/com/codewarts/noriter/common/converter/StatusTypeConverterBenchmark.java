@@ -0,0 +1,50 @@
+package com.codewarts.noriter.common.converter;
+
+import com.codewarts.noriter.article.domain.type.StatusType;
+import com.codewarts.noriter.common.converter.StatusTypeConverter.StringToStatusTypeConverter;
+import com.codewarts.noriter.exception.GlobalNoriterException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 목록 조회의 status 파라미터 변환 비용. 잘못된 값은 예외를 만들어 던지는 경로까지 잰다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusTypeConverterBenchmark {
+
+    private final StringToStatusTypeConverter converter = new StringToStatusTypeConverter();
+
+    private String lowerCase = "incomplete";
+    private String upperCase = "COMPLETE";
+    private String invalid = "closed";
+
+    @Benchmark
+    public StatusType lowerCase() {
+        return converter.convert(lowerCase);
+    }
+
+    @Benchmark
+    public StatusType upperCase() {
+        return converter.convert(upperCase);
+    }
+
+    @Benchmark
+    public Object invalid() {
+        try {
+            return converter.convert(invalid);
+        } catch (GlobalNoriterException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.codewarts.noriter.loadtest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 기준선과 엔드포인트별 p99, 처리량을 비교한다.
+// 허용 비율보다 p99 가 늘거나 처리량이 줄면, 또는 오류 비율이 상한을 넘으면 회귀로 본다.
+public class BaselineComparison {
+
+    private final List<String> lines = new ArrayList<>();
+    private final List<String> regressions = new ArrayList<>();
+
+    private BaselineComparison() {
+    }
+
+    public static BaselineComparison compare(LoadTestResult baseline, LoadTestResult current,
+        double tolerance, double maxErrorRate) {
+        BaselineComparison comparison = new BaselineComparison();
+        if (baseline.getConcurrency() != current.getConcurrency()) {
+            comparison.lines.add(String.format("주의: 기준선의 동시 사용자 수(%d)가 이번 실행(%d)과 다릅니다.",
+                baseline.getConcurrency(), current.getConcurrency()));
+        }
+        Map<String, EndpointResult> baselineEndpoints = baseline.getEndpoints();
+        current.getEndpoints().forEach((endpoint, result) -> comparison.compare(endpoint,
+            baselineEndpoints.get(endpoint), result, tolerance, maxErrorRate));
+        comparison.compare("TOTAL", baseline.getTotal(), current.getTotal(), tolerance,
+            maxErrorRate);
+        return comparison;
+    }
+
+    public boolean hasRegression() {
+        return !regressions.isEmpty();
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n기준선 비교%n");
+        lines.forEach(out::println);
+        if (hasRegression()) {
+            out.printf("%n회귀 %d건%n", regressions.size());
+            regressions.forEach(out::println);
+        } else {
+            out.printf("%n회귀 없음%n");
+        }
+    }
+
+    private void compare(String endpoint, EndpointResult baseline, EndpointResult current,
+        double tolerance, double maxErrorRate) {
+        if (baseline == null) {
+            lines.add(String.format("%-32s 기준선 없음", endpoint));
+            return;
+        }
+        double p99Change = change(baseline.getP99(), current.getP99());
+        double throughputChange = change(baseline.getThroughput(), current.getThroughput());
+        lines.add(String.format("%-32s p99 %8.2f -> %8.2f ms (%+6.1f%%)   req/s %8.1f -> %8.1f (%+6.1f%%)",
+            endpoint, baseline.getP99(), current.getP99(), p99Change * 100,
+            baseline.getThroughput(), current.getThroughput(), throughputChange * 100));
+
+        if (p99Change > tolerance) {
+            regressions.add(String.format("%s: p99 %+.1f%%", endpoint, p99Change * 100));
+        }
+        if (throughputChange < -tolerance) {
+            regressions.add(String.format("%s: 처리량 %+.1f%%", endpoint, throughputChange * 100));
+        }
+        // 지연 시간은 성공한 요청만 기록하므로 requests 에는 오류가 빠져 있다.
+        long attempts = current.getRequests() + current.getErrors();
+        double errorRate = attempts == 0 ? 0 : (double) current.getErrors() / attempts;
+        if (errorRate > maxErrorRate) {
+            regressions.add(String.format("%s: 오류 %d건 (%.2f%%)", endpoint, current.getErrors(),
+                errorRate * 100));
+        }
+    }
+
+    private double change(double baseline, double current) {
+        if (baseline == 0) {
+            return 0;
+        }
+        return current / baseline - 1;
+    }
+}
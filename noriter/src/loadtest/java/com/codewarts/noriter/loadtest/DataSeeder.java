@@ -0,0 +1,140 @@
+package com.codewarts.noriter.loadtest;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.loadtest.NoriterClient.Response;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+
+// 측정 전에 API 로 데이터를 만든다. SQL 로 넣지 않아야 해시태그 색인, 검색 색인, 찜 캐시가 실제처럼 채워진다.
+@RequiredArgsConstructor
+public class DataSeeder {
+
+    private static final List<String> HASHTAGS = List.of("SPRING", "JPA", "JAVA", "REACT",
+        "알고리즘", "스터디", "강남역", "면접", "CS", "코딩테스트");
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final NoriterClient client;
+    private final LoadTestProperties properties;
+    private final Random random = new Random(42);
+
+    public SeedData seed() throws IOException, InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getConcurrency());
+        try {
+            List<String> accessTokens = new ArrayList<>();
+            for (int i = 0; i < properties.getUsers(); i++) {
+                accessTokens.add(client.login());
+            }
+
+            Map<ArticleType, List<Long>> articleIds = new EnumMap<>(ArticleType.class);
+            List<Long> allArticleIds = new ArrayList<>();
+            for (ArticleType type : ArticleType.values()) {
+                // 첫 게시글은 해시태그를 모두 달아 혼자 만든다. 운영 DB 처럼 해시태그 사전과 카운터 행이
+                // 이미 있는 상태에서 나머지를 동시에 만들어야, 빈 DB 에서만 생기는 갭 잠금 경합을 재지 않는다.
+                String firstWriter = accessTokens.get(random.nextInt(accessTokens.size()));
+                Long firstId = retry(() -> client.post(Scenario.articlePath(type),
+                    articleRequest(type, 0, HASHTAGS), firstWriter)).json().asLong();
+
+                List<Callable<Long>> creates = new ArrayList<>();
+                for (int i = 1; i < properties.getArticlesPerType(); i++) {
+                    String accessToken = accessTokens.get(random.nextInt(accessTokens.size()));
+                    Map<String, Object> request = articleRequest(type, i, randomHashtags());
+                    creates.add(() -> retry(
+                        () -> client.post(Scenario.articlePath(type), request, accessToken))
+                        .json().asLong());
+                }
+                List<Long> ids = new ArrayList<>();
+                ids.add(firstId);
+                ids.addAll(invokeAll(executor, creates));
+                articleIds.put(type, ids);
+                allArticleIds.addAll(ids);
+            }
+
+            List<Callable<Void>> comments = new ArrayList<>();
+            for (Long articleId : allArticleIds) {
+                for (int i = 0; i < properties.getCommentsPerArticle(); i++) {
+                    String accessToken = accessTokens.get(random.nextInt(accessTokens.size()));
+                    Map<String, Object> request = Map.of("content", "댓글 " + i, "secret", false);
+                    comments.add(() -> {
+                        retry(() -> client.post("/" + articleId + "/comment", request, accessToken));
+                        return null;
+                    });
+                }
+            }
+            invokeAll(executor, comments);
+
+            List<Callable<Void>> wishes = new ArrayList<>();
+            // 한 회원이 같은 게시글을 동시에 두 번 찜하지 않도록 회원마다 서로 다른 게시글을 고른다.
+            for (String accessToken : accessTokens) {
+                List<Long> shuffled = new ArrayList<>(allArticleIds);
+                Collections.shuffle(shuffled, random);
+                int wishCount = Math.min(properties.getWishesPerUser(), shuffled.size());
+                for (Long articleId : shuffled.subList(0, wishCount)) {
+                    Map<String, Object> request = Map.of("articleId", articleId, "wished", true);
+                    wishes.add(() -> {
+                        retry(() -> client.put("/wish", request, accessToken));
+                        return null;
+                    });
+                }
+            }
+            invokeAll(executor, wishes);
+
+            return new SeedData(accessTokens, articleIds, allArticleIds);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Object> articleRequest(ArticleType type, int index,
+        List<String> hashtags) {
+        return Map.of(
+            "title", type.name() + " 게시글 " + index,
+            "content", "부하 테스트용 본문입니다. ".repeat(10),
+            "hashtags", hashtags);
+    }
+
+    private List<String> randomHashtags() {
+        List<String> hashtags = new ArrayList<>(HASHTAGS);
+        Collections.shuffle(hashtags, random);
+        return hashtags.subList(0, 1 + random.nextInt(3));
+    }
+
+    // 서버 오류로 롤백된 요청은 아무것도 만들지 않았으므로 다시 보내도 된다.
+    // 측정 전 준비 단계라, 드문 잠금 오류 하나로 실행 전체가 중단되지 않게 몇 번 다시 시도한다.
+    private Response retry(SeedRequest request) throws IOException, InterruptedException {
+        Response response = request.send();
+        for (int attempt = 1; attempt < MAX_ATTEMPTS && response.getStatus() >= 500; attempt++) {
+            response = request.send();
+        }
+        return response.orThrow();
+    }
+
+    private <T> List<T> invokeAll(ExecutorService executor, List<Callable<T>> tasks)
+        throws InterruptedException {
+        List<T> results = new ArrayList<>(tasks.size());
+        for (Future<T> future : executor.invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("시드 데이터를 만들지 못했습니다.", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private interface SeedRequest {
+
+        Response send() throws IOException, InterruptedException;
+    }
+}
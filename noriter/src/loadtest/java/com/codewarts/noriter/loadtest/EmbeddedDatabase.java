@@ -0,0 +1,72 @@
+package com.codewarts.noriter.loadtest;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.springframework.util.FileSystemUtils;
+
+// 운영과 같은 MySQL 계열 DB 에서 측정하도록 MariaDB 를 내려받은 바이너리로 띄운다.
+// 바이너리와 데이터 디렉터리는 실행마다 새로 만든 임시 디렉터리에 두고 종료하면 지운다.
+// 기본 위치(/tmp/MariaDB4j)를 함께 쓰면 먼저 끝난 다른 실행이 바이너리를 지워 버린다.
+public class EmbeddedDatabase implements AutoCloseable {
+
+    private static final String DATABASE = "noriter";
+
+    private final DB db;
+    private final int port;
+    private final Path directory;
+
+    private EmbeddedDatabase(DB db, int port, Path directory) {
+        this.db = db;
+        this.port = port;
+        this.directory = directory;
+    }
+
+    public static EmbeddedDatabase start() throws IOException {
+        Path directory = Files.createTempDirectory("noriter-loadtest-db");
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+        config.setBaseDir(directory.resolve("base").toString());
+        config.setDataDir(directory.resolve("data").toString());
+        config.addArg("--character-set-server=utf8mb4");
+        config.addArg("--collation-server=utf8mb4_unicode_ci");
+        // mysqld 는 root 로 실행하려면 --user=root 를 명시해야 한다. (CI 컨테이너)
+        if ("root".equals(System.getProperty("user.name"))) {
+            config.addArg("--user=root");
+        }
+        try {
+            DB db = DB.newEmbeddedDB(config.build());
+            db.start();
+            return new EmbeddedDatabase(db, db.getConfiguration().getPort(), directory);
+        } catch (ManagedProcessException e) {
+            throw new IllegalStateException("내장 MariaDB 를 시작하지 못했습니다.", e);
+        }
+    }
+
+    // 번들된 mysql 클라이언트 없이 드라이버가 스키마를 만들게 한다.
+    public String getJdbcUrl() {
+        return "jdbc:mysql://127.0.0.1:" + port + "/" + DATABASE
+            + "?createDatabaseIfNotExist=true&characterEncoding=UTF-8&useSSL=false";
+    }
+
+    public String getUsername() {
+        return "root";
+    }
+
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public void close() {
+        try {
+            db.stop();
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (ManagedProcessException | IOException e) {
+            throw new IllegalStateException("내장 MariaDB 를 종료하지 못했습니다.", e);
+        }
+    }
+}
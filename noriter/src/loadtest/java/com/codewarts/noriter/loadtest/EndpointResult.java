@@ -0,0 +1,41 @@
+package com.codewarts.noriter.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+// 엔드포인트 하나의 측정 결과. 지연 시간은 밀리초, 처리량은 초당 성공한 요청 수이다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointResult {
+
+    private long requests;
+    private long errors;
+    private double throughput;
+    private double p50;
+    private double p90;
+    private double p99;
+    private double p999;
+    private double max;
+
+    // 히스토그램은 마이크로초 단위로 기록한다.
+    public static EndpointResult of(Histogram histogram, long errors, double seconds) {
+        return new EndpointResult(histogram.getTotalCount(), errors,
+            round(histogram.getTotalCount() / seconds),
+            toMillis(histogram.getValueAtPercentile(50)),
+            toMillis(histogram.getValueAtPercentile(90)),
+            toMillis(histogram.getValueAtPercentile(99)),
+            toMillis(histogram.getValueAtPercentile(99.9)),
+            toMillis(histogram.getMaxValue()));
+    }
+
+    private static double toMillis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
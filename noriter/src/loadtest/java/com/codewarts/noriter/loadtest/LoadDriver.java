@@ -0,0 +1,106 @@
+package com.codewarts.noriter.loadtest;
+
+import com.codewarts.noriter.loadtest.NoriterClient.Response;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+// 동시 사용자 수만큼의 스레드가 응답을 받자마자 다음 요청을 보낸다. (closed loop)
+// 워밍업 동안의 기록은 버리고, 측정 구간의 지연 시간을 시나리오별 HdrHistogram 에 모은다.
+@RequiredArgsConstructor
+public class LoadDriver {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final NoriterClient client;
+    private final LoadTestProperties properties;
+
+    private volatile boolean running;
+
+    public LoadTestResult run(SeedData seed) throws InterruptedException {
+        Map<Scenario, Recorder> recorders = new EnumMap<>(Scenario.class);
+        Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            recorders.put(scenario, new Recorder(SIGNIFICANT_DIGITS));
+            errors.put(scenario, new LongAdder());
+        }
+
+        running = true;
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < properties.getConcurrency(); i++) {
+            Thread worker = new Thread(() -> drive(seed, recorders, errors), "loadtest-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+
+        Thread.sleep(properties.getWarmup().toMillis());
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        long start = System.nanoTime();
+
+        Thread.sleep(properties.getDuration().toMillis());
+        Map<Scenario, Histogram> histograms = new EnumMap<>(Scenario.class);
+        Map<Scenario, Long> errorCounts = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            histograms.put(scenario, recorders.get(scenario).getIntervalHistogram());
+            errorCounts.put(scenario, errors.get(scenario).sum());
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        running = false;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return toResult(histograms, errorCounts, seconds);
+    }
+
+    private void drive(SeedData seed, Map<Scenario, Recorder> recorders,
+        Map<Scenario, LongAdder> errors) {
+        Random random = ThreadLocalRandom.current();
+        while (running) {
+            Scenario scenario = Scenario.pick(random);
+            String accessToken = seed.randomAccessToken(random);
+            long start = System.nanoTime();
+            try {
+                Response response = scenario.execute(client, seed, accessToken, random);
+                long micros = (System.nanoTime() - start) / 1_000;
+                if (response.isSuccess()) {
+                    recorders.get(scenario).recordValue(micros);
+                } else {
+                    errors.get(scenario).increment();
+                }
+            } catch (IOException e) {
+                errors.get(scenario).increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private LoadTestResult toResult(Map<Scenario, Histogram> histograms,
+        Map<Scenario, Long> errorCounts, double seconds) {
+        Map<String, EndpointResult> endpoints = new LinkedHashMap<>();
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        long totalErrors = 0;
+        for (Scenario scenario : Scenario.values()) {
+            Histogram histogram = histograms.get(scenario);
+            endpoints.put(scenario.getEndpoint(),
+                EndpointResult.of(histogram, errorCounts.get(scenario), seconds));
+            total.add(histogram);
+            totalErrors += errorCounts.get(scenario);
+        }
+        return new LoadTestResult(properties.getConcurrency(),
+            properties.getDuration().toSeconds(), endpoints,
+            EndpointResult.of(total, totalErrors, seconds));
+    }
+}
@@ -0,0 +1,65 @@
+package com.codewarts.noriter.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// performance 프로필로 애플리케이션을 띄워 시드 데이터를 만들고, 섞인 요청으로 부하를 준 뒤
+// 엔드포인트별 지연 시간 백분위수와 처리량을 기준선과 비교한다. (./gradlew loadTest)
+// 기준선은 실행한 장비에 따라 달라지므로, 비교할 장비에서 -Ploadtest.update-baseline=true 로 다시 기록한다.
+public class LoadTestApplication {
+
+    // 기동이나 시드 생성에 실패해도 비동기 스레드 때문에 JVM 이 남지 않도록 항상 종료 코드로 끝낸다.
+    public static void main(String[] args) {
+        int exitCode;
+        try {
+            exitCode = run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 2;
+        }
+        System.exit(exitCode);
+    }
+
+    private static int run() throws Exception {
+        LoadTestProperties properties = LoadTestProperties.fromSystemProperties();
+
+        LoadTestResult result;
+        try (EmbeddedDatabase database = properties.useEmbeddedDatabase()
+            ? EmbeddedDatabase.start() : null;
+            NoriterServer server = startServer(properties, database)) {
+            NoriterClient client = new NoriterClient(server.getBaseUrl());
+            SeedData seed = new DataSeeder(client, properties).seed();
+            System.out.printf("시드 데이터: 회원 %d명, 게시글 %d건%n", seed.getUserCount(),
+                seed.getArticleCount());
+            result = new LoadDriver(client, properties).run(seed);
+        }
+
+        result.print(System.out);
+        result.write(properties.getReportDir().resolve("result.json"));
+
+        Path baseline = properties.getBaseline();
+        if (properties.isUpdateBaseline()) {
+            result.write(baseline);
+            System.out.printf("%n기준선을 갱신했습니다: %s%n", baseline);
+            return 0;
+        }
+        if (Files.notExists(baseline)) {
+            System.out.printf("%n기준선이 없어 비교하지 않습니다: %s%n", baseline);
+            return 0;
+        }
+        BaselineComparison comparison = BaselineComparison.compare(LoadTestResult.read(baseline),
+            result, properties.getTolerance(), properties.getMaxErrorRate());
+        comparison.print(System.out);
+        return comparison.hasRegression() ? 1 : 0;
+    }
+
+    private static NoriterServer startServer(LoadTestProperties properties,
+        EmbeddedDatabase database) {
+        if (database == null) {
+            return NoriterServer.start(properties.getJdbcUrl(), properties.getJdbcUsername(),
+                properties.getJdbcPassword());
+        }
+        return NoriterServer.start(database.getJdbcUrl(), database.getUsername(),
+            database.getPassword());
+    }
+}
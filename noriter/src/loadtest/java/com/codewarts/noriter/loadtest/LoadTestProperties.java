@@ -0,0 +1,62 @@
+package com.codewarts.noriter.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.convert.DurationStyle;
+
+// 부하 테스트 설정. ./gradlew loadTest -Ploadtest.concurrency=32 처럼 시스템 프로퍼티로 바꾼다.
+@Getter
+public class LoadTestProperties {
+
+    private static final String PREFIX = "loadtest.";
+
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int users;
+    private final int articlesPerType;
+    private final int commentsPerArticle;
+    private final int wishesPerUser;
+    // 비어 있으면 내장 MariaDB 를 띄운다.
+    private final String jdbcUrl;
+    private final String jdbcUsername;
+    private final String jdbcPassword;
+    private final Path baseline;
+    private final Path reportDir;
+    // 기준선 대비 p99 증가, 처리량 감소를 이 비율까지는 회귀로 보지 않는다.
+    private final double tolerance;
+    // 요청 대비 오류 비율이 이 값을 넘으면 회귀로 본다. 오래된 내장 DB 의 드문 잠금 오류까지 실패로 보지 않기 위함이다.
+    private final double maxErrorRate;
+    private final boolean updateBaseline;
+
+    private LoadTestProperties() {
+        this.concurrency = Integer.parseInt(get("concurrency", "16"));
+        this.warmup = DurationStyle.detectAndParse(get("warmup", "10s"));
+        this.duration = DurationStyle.detectAndParse(get("duration", "30s"));
+        this.users = Integer.parseInt(get("users", "20"));
+        this.articlesPerType = Integer.parseInt(get("articles-per-type", "100"));
+        this.commentsPerArticle = Integer.parseInt(get("comments-per-article", "3"));
+        this.wishesPerUser = Integer.parseInt(get("wishes-per-user", "10"));
+        this.jdbcUrl = get("jdbc-url", "");
+        this.jdbcUsername = get("jdbc-username", "");
+        this.jdbcPassword = get("jdbc-password", "");
+        this.baseline = Path.of(get("baseline", "src/loadtest/resources/baseline.json"));
+        this.reportDir = Path.of(get("report-dir", "build/reports/loadtest"));
+        this.tolerance = Double.parseDouble(get("tolerance", "0.2"));
+        this.maxErrorRate = Double.parseDouble(get("max-error-rate", "0.001"));
+        this.updateBaseline = Boolean.parseBoolean(get("update-baseline", "false"));
+    }
+
+    public static LoadTestProperties fromSystemProperties() {
+        return new LoadTestProperties();
+    }
+
+    public boolean useEmbeddedDatabase() {
+        return jdbcUrl.isBlank();
+    }
+
+    private static String get(String key, String defaultValue) {
+        return System.getProperty(PREFIX + key, defaultValue);
+    }
+}
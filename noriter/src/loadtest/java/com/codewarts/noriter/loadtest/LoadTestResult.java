@@ -0,0 +1,50 @@
+package com.codewarts.noriter.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 한 번의 부하 테스트 결과. 같은 형식으로 기준선 파일에 저장해 다음 실행과 비교한다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestResult {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private int concurrency;
+    private long durationSeconds;
+    private Map<String, EndpointResult> endpoints;
+    private EndpointResult total;
+
+    public static LoadTestResult read(Path path) throws IOException {
+        return OBJECT_MAPPER.readValue(path.toFile(), LoadTestResult.class);
+    }
+
+    public void write(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        OBJECT_MAPPER.writeValue(path.toFile(), this);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n동시 사용자 %d, 측정 %d초%n", concurrency, durationSeconds);
+        out.printf("%-32s %9s %7s %10s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors",
+            "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        endpoints.forEach((endpoint, result) -> print(out, endpoint, result));
+        print(out, "TOTAL", total);
+    }
+
+    private void print(PrintStream out, String endpoint, EndpointResult result) {
+        out.printf("%-32s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", endpoint,
+            result.getRequests(), result.getErrors(), result.getThroughput(), result.getP50(),
+            result.getP90(), result.getP99(), result.getP999(), result.getMax());
+    }
+}
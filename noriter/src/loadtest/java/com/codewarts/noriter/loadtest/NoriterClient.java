@@ -0,0 +1,111 @@
+package com.codewarts.noriter.loadtest;
+
+import static com.codewarts.noriter.auth.utils.OAuthUtils.ACCESS_TOKEN;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 부하 테스트용 HTTP 클라이언트. 연결은 keep-alive 로 재사용한다.
+public class NoriterClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    public NoriterClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    // 목 로그인은 회원을 새로 만들고, 회원 ID 를 액세스 토큰으로 돌려준다.
+    public String login() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+            request("/mock/github/login", null).POST(BodyPublishers.noBody()).build(),
+            BodyHandlers.ofString());
+        new Response(response.statusCode(), response.body()).orThrow();
+        return response.headers().firstValue(ACCESS_TOKEN)
+            .orElseThrow(() -> new IllegalStateException("액세스 토큰 헤더가 없습니다."));
+    }
+
+    public Response get(String path, String accessToken) throws IOException, InterruptedException {
+        return send(request(path, accessToken).GET());
+    }
+
+    public Response post(String path, Object body, String accessToken)
+        throws IOException, InterruptedException {
+        return send(request(path, accessToken).POST(json(body)));
+    }
+
+    public Response put(String path, Object body, String accessToken)
+        throws IOException, InterruptedException {
+        return send(request(path, accessToken).PUT(json(body)));
+    }
+
+    private Response send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request.build(), BodyHandlers.ofString());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    private HttpRequest.Builder request(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json");
+        if (accessToken != null) {
+            builder.header("Authorization", accessToken);
+        }
+        return builder;
+    }
+
+    private BodyPublisher json(Object body) {
+        try {
+            return BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public class Response {
+
+        private final int status;
+        private final String body;
+
+        public boolean isSuccess() {
+            return status < 400;
+        }
+
+        // 시드 데이터는 실패하면 측정 결과가 의미 없으므로 바로 중단한다.
+        public Response orThrow() {
+            if (!isSuccess()) {
+                throw new IllegalStateException("요청 실패: " + status + " " + body);
+            }
+            return this;
+        }
+
+        public JsonNode json() {
+            try {
+                return objectMapper.readTree(body);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
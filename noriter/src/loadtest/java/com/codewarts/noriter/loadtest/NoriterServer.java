@@ -0,0 +1,73 @@
+package com.codewarts.noriter.loadtest;
+
+import com.codewarts.noriter.NoriterApplication;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// performance 프로필로 애플리케이션을 같은 JVM 에 띄운다.
+// 로그인은 목 로그인을 쓰므로 OAuth, JWT 환경 변수에는 부하 테스트용 값을 넣는다.
+public class NoriterServer implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+
+    private NoriterServer(ConfigurableApplicationContext context) {
+        this.context = context;
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.baseUrl = "http://127.0.0.1:" + port;
+    }
+
+    public static NoriterServer start(String jdbcUrl, String username, String password) {
+        // application.yml 의 값보다 우선하도록 커맨드 라인 인자로 넘긴다.
+        String[] args = {
+            "--NORITER_PROFILE=performance",
+            "--DATASOURCE_URL=" + jdbcUrl,
+            "--DATASOURCE_USERNAME=" + username,
+            "--DATASOURCE_PASSWORD=" + password,
+            "--OAUTH_CALLBACK_URL=http://127.0.0.1/callback",
+            "--OAUTH_CLIENT_ID=loadtest",
+            "--OAUTH_CLIENT_SECRET=loadtest",
+            "--OAUTH_LOGIN_FORM_URL=http://127.0.0.1/login",
+            "--JWT_ISSUER=noriter-loadtest",
+            "--JWT_SECRET_KEY=noriter-loadtest-secret",
+            "--server.port=0",
+            "--oauth.stub.port=" + freePort(),
+            "--wish.count-log.dir=" + tempDirectory(),
+            // 요청마다 SQL 을 콘솔에 찍으면 로그 출력이 지연 시간을 좌우한다.
+            "--logging.level.root=warn",
+            "--logging.level.org.hibernate.SQL=warn"
+        };
+        return new NoriterServer(new SpringApplicationBuilder(NoriterApplication.class).run(args));
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path tempDirectory() {
+        try {
+            return Files.createTempDirectory("noriter-wish-count-log");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
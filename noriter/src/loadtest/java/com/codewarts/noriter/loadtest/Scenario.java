@@ -0,0 +1,138 @@
+package com.codewarts.noriter.loadtest;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.loadtest.NoriterClient.Response;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import lombok.Getter;
+
+// 부하 테스트가 섞어 보내는 요청과 그 비중. 읽기 위주인 실제 트래픽에 맞춰 목록, 상세 조회의 비중을 높게 둔다.
+// 결과는 시나리오마다 따로 집계한다.
+@Getter
+public enum Scenario {
+
+    GATHERING_LIST("GET /community/gathering", 16) {
+        @Override
+        Response execute(NoriterClient client, SeedData seed, String accessToken, Random random)
+            throws IOException, InterruptedException {
+            return client.get(listPath(ArticleType.GATHERING, seed, random, true), accessToken);
+        }
+    },
+    QUESTION_LIST("GET /community/question", 12) {
+        @Override
+        Response execute(NoriterClient client, SeedData seed, String accessToken, Random random)
+            throws IOException, InterruptedException {
+            return client.get(listPath(ArticleType.QUESTION, seed, random, true), accessToken);
+        }
+    },
+    PLAYGROUND_LIST("GET /community/playground", 12) {
+        @Override
+        Response execute(NoriterClient client, SeedData seed, String accessToken, Random random)
+            throws IOException, InterruptedException {
+            return client.get(listPath(ArticleType.PLAYGROUND, seed, random, false), accessToken);
+        }
+    },
+    GATHERING_DETAIL("GET /community/gathering/{id}", 14) {
+        @Override
+        Response execute(NoriterClient client, SeedData seed, String accessToken, Random random)
+            throws IOException, InterruptedException {
+            return client.get(detailPath(ArticleType.GATHERING, seed, random), accessToken);
+        }
+    },
+    QUESTION_DETAIL("GET /community/question/{id}", 10) {
+        @Override
+        Response execute(NoriterClient client, SeedData seed, String accessToken, Random random)
+            throws IOException, InterruptedException {
+            return client.get(detailPath(ArticleType.QUESTION, seed, random), accessToken);
+        }
+    },
+    PLAYGROUND_DETAIL("GET /community/playground/{id}", 10) {
+        @Override
+        Response execute(NoriterClient client, SeedData seed, String accessToken, Random random)
+            throws IOException, InterruptedException {
+            return client.get(detailPath(ArticleType.PLAYGROUND, seed, random), accessToken);
+        }
+    },
+    COMMENT_CREATE("POST /{articleId}/comment", 6) {
+        @Override
+        Response execute(NoriterClient client, SeedData seed, String accessToken, Random random)
+            throws IOException, InterruptedException {
+            Map<String, Object> request = Map.of("content", "부하 테스트 댓글", "secret", false);
+            return client.post("/" + seed.randomArticleId(random) + "/comment", request,
+                accessToken);
+        }
+    },
+    WISH_CHANGE("PUT /wish", 10) {
+        @Override
+        Response execute(NoriterClient client, SeedData seed, String accessToken, Random random)
+            throws IOException, InterruptedException {
+            Map<String, Object> request = Map.of("articleId", seed.randomArticleId(random),
+                "wished", random.nextBoolean());
+            return client.put("/wish", request, accessToken);
+        }
+    },
+    // 목록 한 페이지 분량의 찜 여부를 한 번에 확인한다.
+    WISH_STATUS("POST /wish/status", 10) {
+        @Override
+        Response execute(NoriterClient client, SeedData seed, String accessToken, Random random)
+            throws IOException, InterruptedException {
+            List<Long> articleIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                articleIds.add(seed.randomArticleId(random));
+            }
+            return client.post("/wish/status", Map.of("articleIds", articleIds), accessToken);
+        }
+    };
+
+    // 비중만큼 시나리오를 채운 표. 무작위 인덱스 하나로 비중에 맞게 고른다.
+    private static final Scenario[] WEIGHTED = weighted();
+
+    private final String endpoint;
+    private final int weight;
+
+    Scenario(String endpoint, int weight) {
+        this.endpoint = endpoint;
+        this.weight = weight;
+    }
+
+    abstract Response execute(NoriterClient client, SeedData seed, String accessToken,
+        Random random) throws IOException, InterruptedException;
+
+    public static Scenario pick(Random random) {
+        return WEIGHTED[random.nextInt(WEIGHTED.length)];
+    }
+
+    public static String articlePath(ArticleType type) {
+        return "/community/" + type.name().toLowerCase();
+    }
+
+    // 첫 페이지 요청이 대부분이고, 일부는 다음 페이지를 커서로 요청한다.
+    private static String listPath(ArticleType type, SeedData seed, Random random,
+        boolean hasStatus) {
+        StringBuilder path = new StringBuilder(articlePath(type)).append("?size=20");
+        if (random.nextInt(10) < 3) {
+            path.append("&cursor=").append(seed.randomArticleId(type, random));
+        }
+        if (hasStatus && random.nextBoolean()) {
+            path.append("&status=incomplete");
+        }
+        return path.toString();
+    }
+
+    private static Scenario[] weighted() {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (Scenario scenario : values()) {
+            for (int i = 0; i < scenario.weight; i++) {
+                scenarios.add(scenario);
+            }
+        }
+        return scenarios.toArray(Scenario[]::new);
+    }
+
+    private static String detailPath(ArticleType type, SeedData seed, Random random) {
+        return articlePath(type) + "/" + seed.randomArticleId(type, random);
+    }
+}
@@ -0,0 +1,37 @@
+package com.codewarts.noriter.loadtest;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import lombok.RequiredArgsConstructor;
+
+// 시드한 회원의 액세스 토큰과 게시판별 게시글 ID. 시나리오가 무작위로 골라 요청한다.
+@RequiredArgsConstructor
+public class SeedData {
+
+    private final List<String> accessTokens;
+    private final Map<ArticleType, List<Long>> articleIds;
+    private final List<Long> allArticleIds;
+
+    public String randomAccessToken(Random random) {
+        return accessTokens.get(random.nextInt(accessTokens.size()));
+    }
+
+    public Long randomArticleId(ArticleType type, Random random) {
+        List<Long> ids = articleIds.get(type);
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    public Long randomArticleId(Random random) {
+        return allArticleIds.get(random.nextInt(allArticleIds.size()));
+    }
+
+    public int getArticleCount() {
+        return allArticleIds.size();
+    }
+
+    public int getUserCount() {
+        return accessTokens.size();
+    }
+}
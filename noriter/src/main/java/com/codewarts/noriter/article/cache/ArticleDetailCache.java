@@ -0,0 +1,79 @@
+package com.codewarts.noriter.article.cache;
+
+import com.codewarts.noriter.article.dto.article.ArticleDetailResponse;
+import com.codewarts.noriter.common.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class ArticleDetailCache {
+
+    private static final int MAXIMUM_SIZE = 1_000;
+    private static final String CACHE_NAME = "article.detail";
+    // 무효화로 막지 못하는 변경(댓글 작성자의 닉네임 변경 등)도 이 시간이 지나면 반영된다.
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private final Cache<Key, ArticleDetailResponse> cache = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .expireAfterWrite(EXPIRE_AFTER_WRITE)
+        .recordStats()
+        .build();
+    // 게시글별로 비운 횟수. 키에 포함해, 비우기 전에 시작한 적재가 비운 뒤에 저장한 값은 이후 조회가 찾지 못한다.
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    public ArticleDetailCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 게시글 수정 시각까지 키에 포함해, 무효화가 누락되더라도 수정된 게시글은 새로 조회된다.
+    // 세대를 읽은 뒤에 커밋된 데이터까지 적재하도록 호출하는 쪽은 READ COMMITTED 로 읽는다.
+    // (REPEATABLE READ 스냅샷은 세대를 읽기 전에 만들어졌을 수 있다.)
+    @SuppressWarnings("unchecked")
+    public <T extends ArticleDetailResponse> T get(Long articleId, LocalDateTime lastModifiedTime,
+        Supplier<T> loader) {
+        // 쓰기 트랜잭션은 아직 커밋되지 않은(롤백될 수도 있는) 데이터를 읽으므로 캐시를 거치지 않는다.
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+        Key key = new Key(articleId, lastModifiedTime, generations.getOrDefault(articleId, 0L));
+        return (T) cache.get(key, k -> loader.get());
+    }
+
+    // 댓글, 찜 변경은 게시글 수정 시각을 바꾸지 않으므로 게시글 id 로 직접 비운다.
+    // 커밋 전에 비우면 비운 직후의 조회가 커밋 전 데이터를 다시 적재하므로 커밋 이후에 비운다.
+    // 그래도 비우기 전에 시작한 적재는 이전 데이터를 늦게 저장할 수 있어 세대를 올려 그 값을 쓰지 않는다.
+    public void evict(Long articleId) {
+        TransactionUtils.afterCommit(() -> evictNow(articleId));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private void evictNow(Long articleId) {
+        generations.merge(articleId, 1L, Long::sum);
+        cache.asMap().keySet().removeIf(key -> Objects.equals(key.articleId, articleId));
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+
+        private final Long articleId;
+        private final LocalDateTime lastModifiedTime;
+        private final long generation;
+    }
+}
@@ -0,0 +1,69 @@
+package com.codewarts.noriter.article.cache;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.domain.type.StatusType;
+import com.codewarts.noriter.common.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ArticleListCache {
+
+    private static final int MAXIMUM_SIZE = 1_000;
+    // 찜 수, 댓글 수는 무효화 대상이 아니므로 만료 시간만큼 늦게 반영될 수 있다.
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofSeconds(30);
+
+    private final Cache<Key, ArticleListPage> cache = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .expireAfterWrite(EXPIRE_AFTER_WRITE)
+        .build();
+    // 게시판별로 비운 횟수. 적재하는 동안 비워졌다면 이전 데이터일 수 있으므로 그 결과는 저장하지 않는다.
+    private final Map<ArticleType, Long> generations = new ConcurrentHashMap<>();
+
+    public ArticleListPage get(ArticleType articleType, StatusType status, Long cursor, int size,
+        Supplier<ArticleListPage> loader) {
+        long generation = generations.getOrDefault(articleType, 0L);
+        Key key = new Key(articleType, generation, status, cursor, size);
+        AtomicReference<ArticleListPage> loaded = new AtomicReference<>();
+        ArticleListPage cached = cache.get(key, k -> {
+            loaded.set(loader.get());
+            // 적재 함수가 null 을 돌려주면 캐시에 저장하지 않는다.
+            return generations.getOrDefault(articleType, 0L) == generation ? loaded.get() : null;
+        });
+        return cached == null ? loaded.get() : cached;
+    }
+
+    // 게시글이 추가, 수정, 삭제되면 커서 경계가 모두 바뀌므로 해당 게시판의 페이지를 전부 비운다.
+    // 커밋 전에 비우면 동시에 들어온 조회가 이전 데이터를 다시 적재할 수 있어 커밋 이후에 비운다.
+    public void evict(ArticleType articleType) {
+        TransactionUtils.afterCommit(() -> evictNow(articleType));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private void evictNow(ArticleType articleType) {
+        generations.merge(articleType, 1L, Long::sum);
+        cache.asMap().keySet().removeIf(key -> key.articleType == articleType);
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+
+        private final ArticleType articleType;
+        private final long generation;
+        private final StatusType status;
+        private final Long cursor;
+        private final int size;
+    }
+}
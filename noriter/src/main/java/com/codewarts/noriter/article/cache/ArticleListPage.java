@@ -0,0 +1,36 @@
+package com.codewarts.noriter.article.cache;
+
+import com.codewarts.noriter.article.dto.article.ArticleListRow;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+// 조회자와 무관한 목록 한 페이지 분량의 데이터. sameWriter, wish 는 조회 시점에 덧씌운다.
+@Getter
+public class ArticleListPage {
+
+    private final List<ArticleListRow> rows;
+    private final List<Long> articleIds;
+    private final Map<Long, List<String>> hashtags;
+
+    private ArticleListPage(List<ArticleListRow> rows, Map<Long, List<String>> hashtags) {
+        this.rows = List.copyOf(rows);
+        this.articleIds = rows.stream()
+            .map(ArticleListRow::getId)
+            .collect(Collectors.toUnmodifiableList());
+        this.hashtags = hashtags.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                entry -> List.copyOf(entry.getValue())));
+    }
+
+    public static ArticleListPage of(List<ArticleListRow> rows,
+        Map<Long, List<String>> hashtags) {
+        return new ArticleListPage(rows, hashtags);
+    }
+
+    public List<String> getHashtags(Long articleId) {
+        return hashtags.getOrDefault(articleId, Collections.emptyList());
+    }
+}
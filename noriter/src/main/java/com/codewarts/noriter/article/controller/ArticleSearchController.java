@@ -0,0 +1,37 @@
+package com.codewarts.noriter.article.controller;
+
+import static com.codewarts.noriter.common.util.PagingUtils.DEFAULT_PAGE_SIZE;
+import static com.codewarts.noriter.common.util.PagingUtils.MAX_PAGE_SIZE;
+
+import com.codewarts.noriter.article.dto.search.ArticleSearchPageResponse;
+import com.codewarts.noriter.article.service.ArticleSearchService;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/community/search")
+@Validated
+public class ArticleSearchController {
+
+    private final ArticleSearchService articleSearchService;
+
+    @GetMapping
+    public ArticleSearchPageResponse search(
+        @RequestParam(required = false)
+        @NotBlank(message = "검색어가 비어있습니다.") String q,
+        @RequestParam(required = false)
+        @Positive(message = "커서는 양수이어야 합니다.") Long cursor,
+        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE)
+        @Positive(message = "페이지 크기는 양수이어야 합니다.")
+        @Max(value = MAX_PAGE_SIZE, message = "페이지 크기가 너무 큽니다.") int size) {
+        return articleSearchService.search(q, cursor, size);
+    }
+}
@@ -0,0 +1,49 @@
+package com.codewarts.noriter.article.controller;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.dto.hashtag.HashtagSuggestResponse;
+import com.codewarts.noriter.article.dto.hashtag.PopularHashtagResponse;
+import com.codewarts.noriter.article.search.HashtagSuggestIndex;
+import com.codewarts.noriter.article.service.HashtagSuggestService;
+import com.codewarts.noriter.article.service.PopularHashtagService;
+import java.util.List;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/community/hashtags")
+@Validated
+public class HashtagController {
+
+    private final PopularHashtagService popularHashtagService;
+    private final HashtagSuggestService hashtagSuggestService;
+
+    @GetMapping("/popular")
+    public List<PopularHashtagResponse> getPopular(
+        @RequestParam(required = false)
+        @NotNull(message = "게시판 종류가 비어있습니다.") ArticleType articleType,
+        @RequestParam(defaultValue = "10")
+        @Positive(message = "개수는 양수이어야 합니다.")
+        @Max(value = 50, message = "개수가 너무 큽니다.") int size) {
+        return popularHashtagService.findPopular(articleType, size);
+    }
+
+    @GetMapping("/suggest")
+    public List<HashtagSuggestResponse> suggest(
+        @RequestParam(required = false)
+        @NotBlank(message = "접두어가 비어있습니다.") String prefix,
+        @RequestParam(defaultValue = "10")
+        @Positive(message = "개수는 양수이어야 합니다.")
+        @Max(value = HashtagSuggestIndex.MAX_SUGGESTIONS, message = "개수가 너무 큽니다.") int size) {
+        return hashtagSuggestService.suggest(prefix, size);
+    }
+}
@@ -1,14 +1,21 @@
 package com.codewarts.noriter.article.controller;
 
+import static com.codewarts.noriter.common.util.PagingUtils.DEFAULT_PAGE_SIZE;
+import static com.codewarts.noriter.common.util.PagingUtils.MAX_PAGE_SIZE;
 
-import com.codewarts.noriter.article.dto.article.ArticleListResponse;
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.domain.type.HashtagMatchType;
+import com.codewarts.noriter.article.dto.article.ArticlePageResponse;
 import com.codewarts.noriter.article.dto.playground.PlaygroundCreateRequest;
 import com.codewarts.noriter.article.dto.playground.PlaygroundDetailResponse;
 import com.codewarts.noriter.article.dto.playground.PlaygroundUpdateRequest;
+import com.codewarts.noriter.article.dto.trending.TrendingArticleResponse;
 import com.codewarts.noriter.article.service.PlaygroundService;
+import com.codewarts.noriter.article.service.TrendingService;
 import com.codewarts.noriter.auth.LoginCheck;
 import java.util.List;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +27,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -29,6 +37,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class PlaygroundController {
 
     private final PlaygroundService playgroundService;
+    private final TrendingService trendingService;
 
     @PostMapping
     public Long register(@RequestBody @Valid PlaygroundCreateRequest playgroundCreateRequest,
@@ -36,6 +45,14 @@ public class PlaygroundController {
         return playgroundService.create(playgroundCreateRequest, memberId);
     }
 
+    @GetMapping("/trending")
+    public List<TrendingArticleResponse> getTrending(
+        @RequestParam(defaultValue = "10")
+        @Positive(message = "개수는 양수이어야 합니다.")
+        @Max(value = MAX_PAGE_SIZE, message = "개수가 너무 큽니다.") int size) {
+        return trendingService.findTrending(ArticleType.PLAYGROUND, size);
+    }
+
     @GetMapping("/{id}")
     public PlaygroundDetailResponse getDetail(
         @PathVariable(required = false)
@@ -45,8 +62,16 @@ public class PlaygroundController {
     }
 
     @GetMapping
-    public List<ArticleListResponse> getList(@LoginCheck Long memberId) {
-        return playgroundService.findList(memberId);
+    public ArticlePageResponse getList(
+        @RequestParam(required = false)
+        @Positive(message = "커서는 양수이어야 합니다.") Long cursor,
+        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE)
+        @Positive(message = "페이지 크기는 양수이어야 합니다.")
+        @Max(value = MAX_PAGE_SIZE, message = "페이지 크기가 너무 큽니다.") int size,
+        @RequestParam(required = false) List<String> hashtag,
+        @RequestParam(defaultValue = "ALL") HashtagMatchType hashtagMatch,
+        @LoginCheck Long memberId) {
+        return playgroundService.findList(hashtag, hashtagMatch, cursor, size, memberId);
     }
 
     @PutMapping("/{id}")
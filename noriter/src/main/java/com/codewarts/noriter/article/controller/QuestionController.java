@@ -1,17 +1,26 @@
 package com.codewarts.noriter.article.controller;
 
+import static com.codewarts.noriter.common.util.PagingUtils.DEFAULT_PAGE_SIZE;
+import static com.codewarts.noriter.common.util.PagingUtils.MAX_PAGE_SIZE;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.domain.type.HashtagMatchType;
 import com.codewarts.noriter.article.domain.type.StatusType;
-import com.codewarts.noriter.article.dto.article.ArticleListResponse;
+import com.codewarts.noriter.article.dto.article.ArticlePageResponse;
 import com.codewarts.noriter.article.dto.question.QuestionCreateRequest;
 import com.codewarts.noriter.article.dto.question.QuestionDetailResponse;
 import com.codewarts.noriter.article.dto.question.QuestionUpdateRequest;
+import com.codewarts.noriter.article.dto.trending.TrendingArticleResponse;
 import com.codewarts.noriter.article.service.QuestionService;
+import com.codewarts.noriter.article.service.TrendingService;
 import com.codewarts.noriter.auth.LoginCheck;
 import com.codewarts.noriter.exception.GlobalNoriterException;
 import com.codewarts.noriter.exception.type.CommonExceptionType;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
@@ -34,7 +43,10 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 public class QuestionController {
 
+    private static final Set<String> LIST_PARAMS = Set.of("status", "hashtag", "hashtagMatch", "cursor", "size");
+
     private final QuestionService questionService;
+    private final TrendingService trendingService;
     private final ConversionService conversionService;
 
     @PostMapping
@@ -44,17 +56,32 @@ public class QuestionController {
     }
 
     @GetMapping
-    public List<ArticleListResponse> getList(@RequestParam Map<String, String> paramMap,
+    public ArticlePageResponse getList(@RequestParam Map<String, String> paramMap,
+        @RequestParam(required = false)
+        @Positive(message = "커서는 양수이어야 합니다.") Long cursor,
+        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE)
+        @Positive(message = "페이지 크기는 양수이어야 합니다.")
+        @Max(value = MAX_PAGE_SIZE, message = "페이지 크기가 너무 큽니다.") int size,
+        @RequestParam(required = false) List<String> hashtag,
+        @RequestParam(defaultValue = "ALL") HashtagMatchType hashtagMatch,
         @LoginCheck Long memberId) {
-        if (paramMap.isEmpty()) {
-            return questionService.findList(null, memberId);
-        }
-        if (paramMap.size() != 1 || !paramMap.containsKey("status")) {
+        if (!LIST_PARAMS.containsAll(paramMap.keySet())) {
             throw new GlobalNoriterException(CommonExceptionType.INCORRECT_REQUEST_PARAM);
         }
+        if (!paramMap.containsKey("status")) {
+            return questionService.findList(null, hashtag, hashtagMatch, cursor, size, memberId);
+        }
 
         StatusType status = conversionService.convert(paramMap.get("status"), StatusType.class);
-        return questionService.findList(status, memberId);
+        return questionService.findList(status, hashtag, hashtagMatch, cursor, size, memberId);
+    }
+
+    @GetMapping("/trending")
+    public List<TrendingArticleResponse> getTrending(
+        @RequestParam(defaultValue = "10")
+        @Positive(message = "개수는 양수이어야 합니다.")
+        @Max(value = MAX_PAGE_SIZE, message = "개수가 너무 큽니다.") int size) {
+        return trendingService.findTrending(ArticleType.QUESTION, size);
     }
 
     @GetMapping("/{id}")
@@ -1,6 +1,7 @@
 package com.codewarts.noriter.article.domain;
 
 import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.domain.type.StatusType;
 import com.codewarts.noriter.comment.domain.Comment;
 import com.codewarts.noriter.common.util.BaseTimeEntity;
 import com.codewarts.noriter.exception.GlobalNoriterException;
@@ -11,7 +12,11 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
+import javax.persistence.DiscriminatorColumn;
+import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
@@ -19,21 +24,31 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Inheritance;
 import javax.persistence.InheritanceType;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.util.ObjectUtils;
 
 @Getter
 @Entity
 @SuperBuilder
-@Inheritance(strategy = InheritanceType.JOINED)
+@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+@DiscriminatorColumn(name = "article_type")
+@DiscriminatorValue("PLAYGROUND")
+@Table(indexes = {
+    @Index(name = "idx_article_type_deleted_id", columnList = "article_type, deleted, id"),
+    @Index(name = "idx_article_type_status_deleted_id",
+        columnList = "article_type, status, deleted, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Article extends BaseTimeEntity {
 
@@ -60,24 +75,50 @@ public class Article extends BaseTimeEntity {
     @OneToMany(mappedBy = "article", orphanRemoval = true)
     private final List<Comment> comments = new ArrayList<>();
 
+    // article_type 은 하위 타입을 구분하는 컬럼이기도 하므로 값은 Hibernate 가 기록한다.
     @Enumerated(EnumType.STRING)
+    @Column(name = "article_type", insertable = false, updatable = false)
     private ArticleType articleType;
     private LocalDateTime deleted;
 
-    public void addHashtags(List<String> requestHashtags) {
-        if (ObjectUtils.isEmpty(requestHashtags)) {
+    // 질문, 모집 게시글의 상태. 목록 조회가 하위 테이블 조인 없이 인덱스만으로 걸러지도록 article 에 둔다.
+    @Enumerated(EnumType.STRING)
+    private StatusType status;
+
+    // 카운터는 ArticleRepository 의 원자적 UPDATE 로만 변경하고, 엔티티 flush 로 덮어쓰지 않는다.
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int wishCount;
+
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int commentCount;
+
+    public void addHashtags(List<Tag> tags) {
+        if (ObjectUtils.isEmpty(tags)) {
             return;
         }
-        for (String requestHashtag : requestHashtags) {
-            this.hashtags.add(Hashtag.builder().article(this).content(requestHashtag).build());
+        for (Tag tag : tags) {
+            this.hashtags.add(Hashtag.builder().article(this).tag(tag).build());
         }
     }
 
-    public void update(String title, String content, List<String> requestHashtags) {
+    public void update(String title, String content, List<Tag> tags) {
         this.title = title;
         this.content = content;
         this.hashtags.clear();
-        addHashtags(requestHashtags);
+        addHashtags(tags);
+    }
+
+    public List<Tag> getTags() {
+        return hashtags.stream()
+            .filter(hashtag -> !hashtag.isDeleted())
+            .map(Hashtag::getTag)
+            .collect(Collectors.toList());
+    }
+
+    protected void changeStatus(StatusType status) {
+        this.status = status;
     }
 
     public void delete() {
@@ -1,9 +1,8 @@
 package com.codewarts.noriter.article.domain;
 
 import com.codewarts.noriter.article.domain.type.StatusType;
+import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
-import javax.persistence.EnumType;
-import javax.persistence.Enumerated;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,16 +11,15 @@ import lombok.experimental.SuperBuilder;
 @Entity
 @Getter
 @SuperBuilder
+@DiscriminatorValue("GATHERING")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Gathering extends Article {
-    @Enumerated(EnumType.STRING)
-    private StatusType status;
 
     public void changeStatusToComplete() {
-        status = StatusType.COMPLETE;
+        changeStatus(StatusType.COMPLETE);
     }
 
     public void changeStatusToIncomplete() {
-        status = StatusType.INCOMPLETE;
+        changeStatus(StatusType.INCOMPLETE);
     }
 }
@@ -5,8 +5,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +16,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(indexes = {
+    @Index(name = "idx_hashtag_article_deleted", columnList = "article_id, deleted"),
+    @Index(name = "idx_hashtag_tag_deleted", columnList = "tag_id, deleted")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Hashtag {
 
@@ -25,13 +31,16 @@ public class Hashtag {
     @JoinColumn
     private Article article;
 
-    private String content;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn
+    private Tag tag;
+
     private boolean deleted;
 
     @Builder
-    public Hashtag(Article article, String content) {
+    public Hashtag(Article article, Tag tag) {
         this.article = article;
-        this.content = content;
+        this.tag = tag;
         this.deleted = false;
     }
 }
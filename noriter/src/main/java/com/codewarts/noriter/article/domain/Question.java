@@ -1,9 +1,8 @@
 package com.codewarts.noriter.article.domain;
 
 import com.codewarts.noriter.article.domain.type.StatusType;
+import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
-import javax.persistence.EnumType;
-import javax.persistence.Enumerated;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,17 +11,15 @@ import lombok.experimental.SuperBuilder;
 @Entity
 @Getter
 @SuperBuilder
+@DiscriminatorValue("QUESTION")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Question extends Article {
 
-    @Enumerated(EnumType.STRING)
-    private StatusType status;
-
     public void changeStatusToComplete() {
-        this.status = StatusType.COMPLETE;
+        changeStatus(StatusType.COMPLETE);
     }
 
     public void changeStatusToIncomplete() {
-        this.status = StatusType.INCOMPLETE;
+        changeStatus(StatusType.INCOMPLETE);
     }
 }
@@ -0,0 +1,31 @@
+package com.codewarts.noriter.article.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 해시태그 사전. 같은 이름의 해시태그는 한 행만 두고 게시글과는 Hashtag 로 연결한다.
+@Entity
+@Getter
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "uk_tag_name", columnNames = {"name"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Tag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String name;
+
+    public Tag(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,48 @@
+package com.codewarts.noriter.article.domain;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+// 게시판 종류별로 해시태그를 사용 중인(삭제되지 않은) 게시글 수.
+@Entity
+@Getter
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "uk_tag_usage_tag_type", columnNames = {"tag_id", "articleType"})
+}, indexes = {
+    @Index(name = "idx_tag_usage_type_count", columnList = "articleType, articleCount")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TagUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn
+    private Tag tag;
+
+    @Enumerated(EnumType.STRING)
+    private ArticleType articleType;
+
+    // 카운터는 TagUsageRepository 의 원자적 UPDATE 로만 변경한다.
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int articleCount;
+}
@@ -1,5 +1,18 @@
 package com.codewarts.noriter.article.domain.type;
 
+import com.codewarts.noriter.exception.GlobalNoriterException;
+import com.codewarts.noriter.exception.type.CommonExceptionType;
+
 public enum ArticleType {
-  QUESTION, PLAYGROUND, GATHERING
+  QUESTION, PLAYGROUND, GATHERING;
+
+  public static ArticleType valueOfWithCaseInsensitive(String type) {
+    type = type.toUpperCase();
+
+    try {
+      return ArticleType.valueOf(type);
+    } catch (IllegalArgumentException e) {
+      throw new GlobalNoriterException(CommonExceptionType.INCORRECT_REQUEST_VALUE);
+    }
+  }
 }
@@ -0,0 +1,20 @@
+package com.codewarts.noriter.article.domain.type;
+
+import com.codewarts.noriter.exception.GlobalNoriterException;
+import com.codewarts.noriter.exception.type.CommonExceptionType;
+
+public enum HashtagMatchType {
+
+    // ALL: 모든 해시태그를 가진 게시글, ANY: 하나라도 가진 게시글
+    ALL, ANY;
+
+    public static HashtagMatchType valueOfWithCaseInsensitive(String type) {
+        type = type.toUpperCase();
+
+        try {
+            return HashtagMatchType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new GlobalNoriterException(CommonExceptionType.INCORRECT_REQUEST_VALUE);
+        }
+    }
+}
@@ -11,4 +11,6 @@ public abstract class ArticleCreateRequest {
     private List<String> hashtags;
 
     public abstract Article toEntity(Member writer);
+
+    public abstract List<String> getHashtags();
 }
@@ -29,5 +29,10 @@ public abstract class ArticleDetailResponse {
     private StatusType status;
     private List<CommentResponse> comment;
 
-    public ArticleDetailResponse(Article article, boolean sameWriter, boolean wish) {}
+    public ArticleDetailResponse(Article article, List<String> hashtags,
+        List<CommentResponse> comments, boolean sameWriter, boolean wish) {}
+
+    // 조회자와 무관한 필드는 그대로 두고 sameWriter, wish 와 최신 찜 수만 바꾼 응답을 만든다.
+    public abstract ArticleDetailResponse withViewer(boolean sameWriter,
+        boolean wish, int wishCount);
 }
@@ -0,0 +1,42 @@
+package com.codewarts.noriter.article.dto.article;
+
+import com.codewarts.noriter.article.domain.type.StatusType;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+@Getter
+public class ArticleListRow {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final Long writerId;
+    private final String writerNickname;
+    private final LocalDateTime createdTime;
+    private final LocalDateTime lastModifiedTime;
+    private final int wishCount;
+    private final int commentCount;
+    private final StatusType status;
+
+    public ArticleListRow(Long id, String title, String content, Long writerId,
+        String writerNickname, LocalDateTime createdTime, LocalDateTime lastModifiedTime,
+        Integer wishCount, Integer commentCount, StatusType status) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.writerId = writerId;
+        this.writerNickname = writerNickname;
+        this.createdTime = createdTime;
+        this.lastModifiedTime = lastModifiedTime;
+        this.wishCount = wishCount;
+        this.commentCount = commentCount;
+        this.status = status;
+    }
+
+    public ArticleListRow(Long id, String title, String content, Long writerId,
+        String writerNickname, LocalDateTime createdTime, LocalDateTime lastModifiedTime,
+        Integer wishCount, Integer commentCount) {
+        this(id, title, content, writerId, writerNickname, createdTime, lastModifiedTime,
+            wishCount, commentCount, null);
+    }
+}
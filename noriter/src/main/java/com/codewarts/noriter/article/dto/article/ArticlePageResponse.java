@@ -0,0 +1,25 @@
+package com.codewarts.noriter.article.dto.article;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class ArticlePageResponse {
+
+    private final List<ArticleListResponse> articles;
+    private final Long nextCursor;
+
+    public ArticlePageResponse(List<ArticleListResponse> articles, Long nextCursor) {
+        this.articles = articles;
+        this.nextCursor = nextCursor;
+    }
+
+    // size + 1 개를 조회한 결과를 size 개로 자르고, 다음 페이지가 있으면 마지막 게시글 ID를 커서로 사용한다.
+    public static ArticlePageResponse of(List<ArticleListResponse> fetched, int size) {
+        if (fetched.size() <= size) {
+            return new ArticlePageResponse(fetched, null);
+        }
+        List<ArticleListResponse> articles = fetched.subList(0, size);
+        return new ArticlePageResponse(articles, articles.get(size - 1).getId());
+    }
+}
@@ -24,14 +24,12 @@ public class GatheringCreateRequest extends ArticleCreateRequest {
 
     @Override
     public Gathering toEntity(Member writer) {
-        Gathering gathering = Gathering.builder()
+        return Gathering.builder()
             .title(title)
             .content(content)
             .writer(writer)
             .articleType(ArticleType.GATHERING)
             .status(StatusType.INCOMPLETE)
             .build();
-        gathering.addHashtags(hashtags);
-        return gathering;
     }
 }
@@ -1,7 +1,6 @@
 package com.codewarts.noriter.article.dto.gathering;
 
 import com.codewarts.noriter.article.domain.Gathering;
-import com.codewarts.noriter.article.domain.Hashtag;
 import com.codewarts.noriter.article.domain.type.StatusType;
 import com.codewarts.noriter.article.dto.article.ArticleDetailResponse;
 import com.codewarts.noriter.comment.dto.comment.CommentResponse;
@@ -9,7 +8,6 @@ import com.codewarts.noriter.member.dto.WriterInfoResponse;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -32,22 +30,40 @@ public class GatheringDetailResponse extends ArticleDetailResponse {
     private StatusType status;
     private List<CommentResponse> comment;
 
-    public GatheringDetailResponse(Gathering gathering, boolean sameWriter, boolean wish) {
+    public GatheringDetailResponse(Gathering gathering, List<String> hashtags,
+        List<CommentResponse> comments, boolean sameWriter, boolean wish) {
         this.id = gathering.getId();
         this.title = gathering.getTitle();
         this.content = gathering.getContent();
         this.writer = new WriterInfoResponse(gathering.getWriter());
         this.sameWriter = sameWriter;
-        this.hashtags = gathering.getHashtags().stream()
-            .map(Hashtag::getContent)
-            .collect(Collectors.toList());
+        this.hashtags = hashtags;
         this.createdTime = gathering.getCreatedTime();
         this.lastModifiedTime = gathering.getLastModifiedTime();
         this.wish = wish;
-        this.wishCount = gathering.getWishList().size();
+        this.wishCount = gathering.getWishCount();
         this.status = gathering.getStatus();
-        this.comment = gathering.getComments().stream()
-            .map(CommentResponse::new)
-            .collect(Collectors.toList());
+        this.comment = comments;
+    }
+
+    private GatheringDetailResponse(GatheringDetailResponse detail, boolean sameWriter,
+        boolean wish, int wishCount) {
+        this.id = detail.id;
+        this.title = detail.title;
+        this.content = detail.content;
+        this.writer = detail.writer;
+        this.sameWriter = sameWriter;
+        this.hashtags = detail.hashtags;
+        this.createdTime = detail.createdTime;
+        this.lastModifiedTime = detail.lastModifiedTime;
+        this.wish = wish;
+        this.wishCount = wishCount;
+        this.status = detail.status;
+        this.comment = detail.comment;
+    }
+
+    @Override
+    public GatheringDetailResponse withViewer(boolean sameWriter, boolean wish, int wishCount) {
+        return new GatheringDetailResponse(this, sameWriter, wish, wishCount);
     }
 }
@@ -1,13 +1,11 @@
 package com.codewarts.noriter.article.dto.gathering;
 
-import com.codewarts.noriter.article.domain.Gathering;
-import com.codewarts.noriter.article.domain.Hashtag;
 import com.codewarts.noriter.article.domain.type.StatusType;
 import com.codewarts.noriter.article.dto.article.ArticleListResponse;
+import com.codewarts.noriter.article.dto.article.ArticleListRow;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -30,19 +28,19 @@ public class GatheringListResponse extends ArticleListResponse {
     private int commentCount;
     private StatusType status;
 
-    public GatheringListResponse(Gathering gathering, boolean sameWriter, boolean wish) {
-        this.id = gathering.getId();
-        this.title = gathering.getTitle();
-        this.content = gathering.getContent();
-        this.writerNickname = gathering.getWriter().getNickname();
+    public GatheringListResponse(ArticleListRow row, List<String> hashtags, boolean sameWriter,
+        boolean wish) {
+        this.id = row.getId();
+        this.title = row.getTitle();
+        this.content = row.getContent();
+        this.writerNickname = row.getWriterNickname();
         this.sameWriter = sameWriter;
-        this.hashtags = gathering.getHashtags().stream().map(Hashtag::getContent)
-            .collect(Collectors.toList());
-        this.createdTime = gathering.getCreatedTime();
-        this.lastModifiedTime = gathering.getLastModifiedTime();
+        this.hashtags = hashtags;
+        this.createdTime = row.getCreatedTime();
+        this.lastModifiedTime = row.getLastModifiedTime();
         this.wish = wish;
-        this.wishCount = gathering.getWishList().size();
-        this.commentCount = gathering.getComments().size();
-        this.status = gathering.getStatus();
+        this.wishCount = row.getWishCount();
+        this.commentCount = row.getCommentCount();
+        this.status = row.getStatus();
     }
 }
@@ -0,0 +1,15 @@
+package com.codewarts.noriter.article.dto.hashtag;
+
+import lombok.Getter;
+
+@Getter
+public class HashtagSuggestResponse {
+
+    private final String name;
+    private final long articleCount;
+
+    public HashtagSuggestResponse(String name, Long articleCount) {
+        this.name = name;
+        this.articleCount = articleCount;
+    }
+}
@@ -0,0 +1,15 @@
+package com.codewarts.noriter.article.dto.hashtag;
+
+import lombok.Getter;
+
+@Getter
+public class PopularHashtagResponse {
+
+    private final String name;
+    private final int articleCount;
+
+    public PopularHashtagResponse(String name, Integer articleCount) {
+        this.name = name;
+        this.articleCount = articleCount;
+    }
+}
@@ -22,14 +22,12 @@ public class PlaygroundCreateRequest extends ArticleCreateRequest {
 
     @Override
     public Article toEntity(Member writer) {
-        Article article = Article.builder()
+        return Article.builder()
             .title(title)
             .content(content)
             .writer(writer)
             .articleType(ArticleType.PLAYGROUND)
             .build();
-        article.addHashtags(hashtags);
-        return article;
     }
 }
 
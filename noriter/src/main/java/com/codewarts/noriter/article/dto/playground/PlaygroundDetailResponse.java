@@ -1,14 +1,12 @@
 package com.codewarts.noriter.article.dto.playground;
 
 import com.codewarts.noriter.article.domain.Article;
-import com.codewarts.noriter.article.domain.Hashtag;
 import com.codewarts.noriter.article.dto.article.ArticleDetailResponse;
 import com.codewarts.noriter.comment.dto.comment.CommentResponse;
 import com.codewarts.noriter.member.dto.WriterInfoResponse;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -30,21 +28,38 @@ public class PlaygroundDetailResponse extends ArticleDetailResponse {
     private int wishCount;
     private List<CommentResponse> comment;
 
-    public PlaygroundDetailResponse(Article article, boolean sameWriter, boolean wish) {
+    public PlaygroundDetailResponse(Article article, List<String> hashtags,
+        List<CommentResponse> comments, boolean sameWriter, boolean wish) {
         this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
         this.writer = new WriterInfoResponse(article.getWriter());
         this.sameWriter = sameWriter;
-        this.hashtags = article.getHashtags().stream()
-            .map(Hashtag::getContent)
-            .collect(Collectors.toList());
+        this.hashtags = hashtags;
         this.createdTime = article.getCreatedTime();
         this.lastModifiedTime = article.getLastModifiedTime();
         this.wish = wish;
-        this.wishCount = article.getWishList().size();
-        this.comment = article.getComments().stream()
-            .map(CommentResponse::new)
-            .collect(Collectors.toList());
+        this.wishCount = article.getWishCount();
+        this.comment = comments;
+    }
+
+    private PlaygroundDetailResponse(PlaygroundDetailResponse detail, boolean sameWriter,
+        boolean wish, int wishCount) {
+        this.id = detail.id;
+        this.title = detail.title;
+        this.content = detail.content;
+        this.writer = detail.writer;
+        this.sameWriter = sameWriter;
+        this.hashtags = detail.hashtags;
+        this.createdTime = detail.createdTime;
+        this.lastModifiedTime = detail.lastModifiedTime;
+        this.wish = wish;
+        this.wishCount = wishCount;
+        this.comment = detail.comment;
+    }
+
+    @Override
+    public PlaygroundDetailResponse withViewer(boolean sameWriter, boolean wish, int wishCount) {
+        return new PlaygroundDetailResponse(this, sameWriter, wish, wishCount);
     }
 }
@@ -1,12 +1,10 @@
 package com.codewarts.noriter.article.dto.playground;
 
-import com.codewarts.noriter.article.domain.Article;
-import com.codewarts.noriter.article.domain.Hashtag;
 import com.codewarts.noriter.article.dto.article.ArticleListResponse;
+import com.codewarts.noriter.article.dto.article.ArticleListRow;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -30,19 +28,18 @@ public class PlaygroundListResponse extends ArticleListResponse {
     private int wishCount;
     private int commentCount;
 
-    public PlaygroundListResponse(Article article, boolean sameWriter, boolean wish) {
-        this.id = article.getId();
-        this.title = article.getTitle();
-        this.content = article.getContent();
-        this.writerNickname = article.getWriter().getNickname();
+    public PlaygroundListResponse(ArticleListRow row, List<String> hashtags, boolean sameWriter,
+        boolean wish) {
+        this.id = row.getId();
+        this.title = row.getTitle();
+        this.content = row.getContent();
+        this.writerNickname = row.getWriterNickname();
         this.sameWriter = sameWriter;
-        this.hashtags = article.getHashtags().stream()
-            .map(Hashtag::getContent)
-            .collect(Collectors.toList());
-        this.createdTime = article.getCreatedTime();
-        this.lastModifiedTime = article.getLastModifiedTime();
+        this.hashtags = hashtags;
+        this.createdTime = row.getCreatedTime();
+        this.lastModifiedTime = row.getLastModifiedTime();
         this.wish = wish;
-        this.wishCount = article.getWishList().size();
-        this.commentCount = article.getComments().size();
+        this.wishCount = row.getWishCount();
+        this.commentCount = row.getCommentCount();
     }
 }
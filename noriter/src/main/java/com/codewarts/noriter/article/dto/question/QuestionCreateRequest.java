@@ -25,14 +25,12 @@ public class QuestionCreateRequest extends ArticleCreateRequest {
 
     @Override
     public Question toEntity(Member writer) {
-        Question question = Question.builder()
+        return Question.builder()
             .title(title)
             .content(content)
             .writer(writer)
             .articleType(ArticleType.QUESTION)
             .status(StatusType.INCOMPLETE)
             .build();
-        question.addHashtags(hashtags);
-        return question;
     }
 }
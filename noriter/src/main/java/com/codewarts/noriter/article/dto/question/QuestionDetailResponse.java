@@ -1,6 +1,5 @@
 package com.codewarts.noriter.article.dto.question;
 
-import com.codewarts.noriter.article.domain.Hashtag;
 import com.codewarts.noriter.article.domain.Question;
 import com.codewarts.noriter.article.domain.type.StatusType;
 import com.codewarts.noriter.article.dto.article.ArticleDetailResponse;
@@ -9,7 +8,6 @@ import com.codewarts.noriter.member.dto.WriterInfoResponse;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 
 @Getter
@@ -30,26 +28,45 @@ public class QuestionDetailResponse extends ArticleDetailResponse {
     private final List<CommentResponse> comment;
     private final StatusType status;
 
-    public QuestionDetailResponse(Question question, boolean sameWriter, boolean wish) {
+    public QuestionDetailResponse(Question question, List<String> hashtags,
+        List<CommentResponse> comments, boolean sameWriter, boolean wish) {
         this.id = question.getId();
         this.title = question.getTitle();
         this.content = question.getContent();
         this.writer = WriterInfoResponse.from(question.getWriter());
         this.sameWriter = sameWriter;
-        this.hashtags = question.getHashtags().stream()
-            .map(Hashtag::getContent)
-            .collect(Collectors.toList());
+        this.hashtags = hashtags;
         this.createdTime = question.getCreatedTime();
         this.lastModifiedTime = question.getLastModifiedTime();
         this.wish = wish;
-        this.wishCount = question.getWishList().size();
-        this.comment = question.getComments().stream()
-            .map(CommentResponse::new)
-            .collect(Collectors.toList());
+        this.wishCount = question.getWishCount();
+        this.comment = comments;
         this.status = question.getStatus();
     }
 
-    public static QuestionDetailResponse from(Question question, boolean sameWriter, boolean wish) {
-        return new QuestionDetailResponse(question, sameWriter, wish);
+    public static QuestionDetailResponse from(Question question, List<String> hashtags,
+        List<CommentResponse> comments, boolean sameWriter, boolean wish) {
+        return new QuestionDetailResponse(question, hashtags, comments, sameWriter, wish);
+    }
+
+    private QuestionDetailResponse(QuestionDetailResponse detail, boolean sameWriter,
+        boolean wish, int wishCount) {
+        this.id = detail.id;
+        this.title = detail.title;
+        this.content = detail.content;
+        this.writer = detail.writer;
+        this.sameWriter = sameWriter;
+        this.hashtags = detail.hashtags;
+        this.createdTime = detail.createdTime;
+        this.lastModifiedTime = detail.lastModifiedTime;
+        this.wish = wish;
+        this.wishCount = wishCount;
+        this.comment = detail.comment;
+        this.status = detail.status;
+    }
+
+    @Override
+    public QuestionDetailResponse withViewer(boolean sameWriter, boolean wish, int wishCount) {
+        return new QuestionDetailResponse(this, sameWriter, wish, wishCount);
     }
 }
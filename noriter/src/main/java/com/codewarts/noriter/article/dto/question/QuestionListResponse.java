@@ -1,13 +1,11 @@
 package com.codewarts.noriter.article.dto.question;
 
-import com.codewarts.noriter.article.domain.Hashtag;
-import com.codewarts.noriter.article.domain.Question;
 import com.codewarts.noriter.article.domain.type.StatusType;
 import com.codewarts.noriter.article.dto.article.ArticleListResponse;
+import com.codewarts.noriter.article.dto.article.ArticleListRow;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 
 @Getter
@@ -28,18 +26,19 @@ public class QuestionListResponse extends ArticleListResponse {
     private final int commentCount;
     private final StatusType status;
 
-    public QuestionListResponse(Question question, boolean sameWriter, boolean wish) {
-        this.id = question.getId();
-        this.title = question.getTitle();
-        this.content = question.getContent();
-        this.writerNickname = question.getWriter().getNickname();
+    public QuestionListResponse(ArticleListRow row, List<String> hashtags, boolean sameWriter,
+        boolean wish) {
+        this.id = row.getId();
+        this.title = row.getTitle();
+        this.content = row.getContent();
+        this.writerNickname = row.getWriterNickname();
         this.sameWriter = sameWriter;
-        this.hashtags = question.getHashtags().stream().map(Hashtag::getContent).collect(Collectors.toList());
-        this.createdTime = question.getCreatedTime();
-        this.lastModifiedTime = question.getLastModifiedTime();
+        this.hashtags = hashtags;
+        this.createdTime = row.getCreatedTime();
+        this.lastModifiedTime = row.getLastModifiedTime();
         this.wish = wish;
-        this.wishCount = question.getWishList().size();
-        this.commentCount = question.getComments().size();
-        this.status = question.getStatus();
+        this.wishCount = row.getWishCount();
+        this.commentCount = row.getCommentCount();
+        this.status = row.getStatus();
     }
 }
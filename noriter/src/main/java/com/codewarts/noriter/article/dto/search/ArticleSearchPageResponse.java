@@ -0,0 +1,25 @@
+package com.codewarts.noriter.article.dto.search;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class ArticleSearchPageResponse {
+
+    private final List<ArticleSearchResponse> articles;
+    private final Long nextCursor;
+
+    public ArticleSearchPageResponse(List<ArticleSearchResponse> articles, Long nextCursor) {
+        this.articles = articles;
+        this.nextCursor = nextCursor;
+    }
+
+    // size + 1 개를 조회한 결과를 size 개로 자르고, 다음 페이지가 있으면 마지막 게시글 ID를 커서로 사용한다.
+    public static ArticleSearchPageResponse of(List<ArticleSearchResponse> fetched, int size) {
+        if (fetched.size() <= size) {
+            return new ArticleSearchPageResponse(fetched, null);
+        }
+        List<ArticleSearchResponse> articles = fetched.subList(0, size);
+        return new ArticleSearchPageResponse(articles, articles.get(size - 1).getId());
+    }
+}
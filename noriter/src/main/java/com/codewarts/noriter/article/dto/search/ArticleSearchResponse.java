@@ -0,0 +1,27 @@
+package com.codewarts.noriter.article.dto.search;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+@Getter
+public class ArticleSearchResponse {
+
+    private final Long id;
+    private final ArticleType articleType;
+    private final String title;
+    private final String content;
+    private final String writerNickname;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private final LocalDateTime createdTime;
+
+    public ArticleSearchResponse(ArticleSearchRow row) {
+        this.id = row.getId();
+        this.articleType = row.getArticleType();
+        this.title = row.getTitle();
+        this.content = row.getContent();
+        this.writerNickname = row.getWriterNickname();
+        this.createdTime = row.getCreatedTime();
+    }
+}
@@ -0,0 +1,40 @@
+package com.codewarts.noriter.article.dto.search;
+
+import com.codewarts.noriter.article.domain.Article;
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.domain.type.StatusType;
+import com.codewarts.noriter.member.dto.WriterInfoResponse;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+@Getter
+public class ArticleSearchRow {
+
+    private final Long id;
+    private final ArticleType articleType;
+    private final StatusType status;
+    private final String title;
+    private final String content;
+    private final Long writerId;
+    private final String writerNickname;
+    private final LocalDateTime createdTime;
+
+    public ArticleSearchRow(Long id, ArticleType articleType, StatusType status, String title,
+        String content, Long writerId, String writerNickname, LocalDateTime createdTime) {
+        this.id = id;
+        this.articleType = articleType;
+        this.status = status;
+        this.title = title;
+        this.content = content;
+        this.writerId = writerId;
+        this.writerNickname = writerNickname;
+        this.createdTime = createdTime;
+    }
+
+    // 작성자는 프록시일 수 있어 닉네임을 읽으면 회원을 조회하므로 캐시한 작성자 정보를 받는다.
+    public static ArticleSearchRow from(Article article, WriterInfoResponse writer) {
+        return new ArticleSearchRow(article.getId(), article.getArticleType(), article.getStatus(),
+            article.getTitle(), article.getContent(), writer.getId(), writer.getNickname(),
+            article.getCreatedTime());
+    }
+}
@@ -0,0 +1,26 @@
+package com.codewarts.noriter.article.dto.trending;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.dto.search.ArticleSearchRow;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+@Getter
+public class TrendingArticleResponse {
+
+    private final Long id;
+    private final ArticleType articleType;
+    private final String title;
+    private final String writerNickname;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private final LocalDateTime createdTime;
+
+    public TrendingArticleResponse(ArticleSearchRow row) {
+        this.id = row.getId();
+        this.articleType = row.getArticleType();
+        this.title = row.getTitle();
+        this.writerNickname = row.getWriterNickname();
+        this.createdTime = row.getCreatedTime();
+    }
+}
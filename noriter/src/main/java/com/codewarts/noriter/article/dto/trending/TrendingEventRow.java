@@ -0,0 +1,16 @@
+package com.codewarts.noriter.article.dto.trending;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 인기 순위 재구성에 쓰는 찜, 댓글 한 건.
+@Getter
+@RequiredArgsConstructor
+public class TrendingEventRow {
+
+    private final Long articleId;
+    private final ArticleType articleType;
+    private final LocalDateTime createdTime;
+}
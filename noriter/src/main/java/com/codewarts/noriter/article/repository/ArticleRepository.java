@@ -2,13 +2,32 @@ package com.codewarts.noriter.article.repository;
 
 import com.codewarts.noriter.article.domain.Article;
 import com.codewarts.noriter.article.domain.type.ArticleType;
-import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ArticleRepository extends JpaRepository<Article, Long> {
+public interface ArticleRepository extends JpaRepository<Article, Long>, CustomArticleRepository {
 
-    @Query("select a from Article a where a.articleType = :articleType and a.deleted is null")
-    List<Article> findAllByArticleType(@Param("articleType") ArticleType articleType);
+    @Query("select a.articleType from Article a where a.id = :id and a.deleted is null")
+    Optional<ArticleType> findArticleTypeById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "update article set comment_count = comment_count + 1 where id = :id",
+        nativeQuery = true)
+    void increaseCommentCount(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "update article set comment_count = comment_count - 1 where id = :id",
+        nativeQuery = true)
+    void decreaseCommentCount(@Param("id") Long id);
+
+    // 찜 수는 WishCountBuffer 가 반영 전 변화량을 알고 있어야 맞출 수 있으므로 WishCountBuffer.reconcile 이 맞춘다.
+    @Modifying
+    @Query(value = "update article a set "
+        + "comment_count = (select count(*) from comment c "
+        + "where c.article_id = a.id and c.deleted = false)",
+        nativeQuery = true)
+    int recalculateCommentCounts();
 }
@@ -1,12 +1,36 @@
 package com.codewarts.noriter.article.repository;
 
-import com.codewarts.noriter.article.domain.Gathering;
-import com.codewarts.noriter.article.domain.Question;
 import com.codewarts.noriter.article.domain.type.StatusType;
+import com.codewarts.noriter.article.dto.article.ArticleListRow;
+import com.codewarts.noriter.article.dto.search.ArticleSearchRow;
+import com.codewarts.noriter.article.dto.trending.TrendingEventRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface CustomArticleRepository {
-    List<Gathering> findAllGatheringList(StatusType statusType);
+    List<ArticleListRow> findAllGatheringList(StatusType statusType, Long cursor, int limit);
 
-    List<Question> findAllQuestionList(StatusType statusType);
+    List<ArticleListRow> findAllQuestionList(StatusType statusType, Long cursor, int limit);
+
+    List<ArticleListRow> findAllPlaygroundList(Long cursor, int limit);
+
+    List<ArticleListRow> findListRowsByIds(Collection<Long> articleIds);
+
+    List<ArticleSearchRow> findSearchRows(Long afterId, int limit);
+
+    // 게시글별 찜 수 변화량을 한 번의 배치 UPDATE 로 반영한다.
+    void addWishCounts(Map<Long, Long> deltas);
+
+    // wish 테이블 기준 찜 수에서 저장된 찜 수를 뺀 값. 차이가 있는 게시글만 담는다.
+    Map<Long, Long> findWishCountCorrections();
+
+    // 기간 안에 생긴 찜, 댓글을 삭제되지 않은 게시글 것만 하나씩 넘긴다. 결과를 목록으로 모으지 않는다.
+    void findWishEvents(LocalDateTime since, LocalDateTime until,
+        Consumer<TrendingEventRow> consumer);
+
+    void findCommentEvents(LocalDateTime since, LocalDateTime until,
+        Consumer<TrendingEventRow> consumer);
 }
@@ -1,47 +1,208 @@
 package com.codewarts.noriter.article.repository;
 
-import static com.codewarts.noriter.article.domain.QGathering.gathering;
-import static com.codewarts.noriter.article.domain.QQuestion.question;
+import static com.codewarts.noriter.article.domain.QArticle.article;
+import static com.codewarts.noriter.member.domain.QMember.member;
 
-import com.codewarts.noriter.article.domain.Gathering;
-import com.codewarts.noriter.article.domain.Question;
+import com.codewarts.noriter.article.domain.QArticle;
+import com.codewarts.noriter.article.domain.type.ArticleType;
 import com.codewarts.noriter.article.domain.type.StatusType;
+import com.codewarts.noriter.article.dto.article.ArticleListRow;
+import com.codewarts.noriter.article.dto.search.ArticleSearchRow;
+import com.codewarts.noriter.article.dto.trending.TrendingEventRow;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.util.ObjectUtils;
 
 @RequiredArgsConstructor
 public class CustomArticleRepositoryImpl implements CustomArticleRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
-    public List<Gathering> findAllGatheringList(StatusType statusType) {
-        return queryFactory.selectFrom(gathering)
+    public List<ArticleListRow> findAllGatheringList(StatusType statusType, Long cursor,
+        int limit) {
+        return queryFactory.select(listRow(article, article.status))
+            .from(article)
+            .join(article.writer, member)
             .where(
-                isSameStatusTypeGathering(statusType),
-                gathering.deleted.isNull()
+                article.articleType.eq(ArticleType.GATHERING),
+                article.deleted.isNull(),
+                isBeforeCursor(article.id, cursor),
+                isSameStatusType(statusType)
             )
+            .orderBy(article.id.desc())
+            .limit(limit)
             .fetch();
     }
 
     @Override
-    public List<Question> findAllQuestionList(StatusType statusType) {
-        return queryFactory.selectFrom(question)
+    public List<ArticleListRow> findAllQuestionList(StatusType statusType, Long cursor,
+        int limit) {
+        return queryFactory.select(listRow(article, article.status))
+            .from(article)
+            .join(article.writer, member)
             .where(
-                isSameStatusTypeQuestion(statusType),
-                question.deleted.isNull()
+                article.articleType.eq(ArticleType.QUESTION),
+                article.deleted.isNull(),
+                isBeforeCursor(article.id, cursor),
+                isSameStatusType(statusType)
             )
+            .orderBy(article.id.desc())
+            .limit(limit)
             .fetch();
     }
 
-    private BooleanExpression isSameStatusTypeGathering(StatusType statusType) {
-        return ObjectUtils.isEmpty(statusType) ? null : gathering.status.eq(statusType);
+    @Override
+    public List<ArticleListRow> findAllPlaygroundList(Long cursor, int limit) {
+        return queryFactory.select(listRow(article))
+            .from(article)
+            .join(article.writer, member)
+            .where(
+                article.articleType.eq(ArticleType.PLAYGROUND),
+                article.deleted.isNull(),
+                isBeforeCursor(article.id, cursor)
+            )
+            .orderBy(article.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    // 해시태그 색인이 고른 게시글 ID 들의 목록 행을 조회한다.
+    @Override
+    public List<ArticleListRow> findListRowsByIds(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return queryFactory.select(listRow(article, article.status))
+            .from(article)
+            .join(article.writer, member)
+            .where(
+                article.id.in(articleIds),
+                article.deleted.isNull()
+            )
+            .orderBy(article.id.desc())
+            .fetch();
+    }
+
+    // 검색 색인 재구성용. ID 순으로 잘라 읽어 전체 게시글을 한 번에 메모리에 올리지 않는다.
+    @Override
+    public List<ArticleSearchRow> findSearchRows(Long afterId, int limit) {
+        return queryFactory.select(Projections.constructor(ArticleSearchRow.class,
+                article.id,
+                article.articleType,
+                article.status,
+                article.title,
+                article.content,
+                member.id,
+                member.nickname,
+                article.createdTime))
+            .from(article)
+            .join(article.writer, member)
+            .where(
+                article.id.gt(afterId),
+                article.deleted.isNull()
+            )
+            .orderBy(article.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    // JPQL 벌크 UPDATE 는 배치로 묶이지 않아 JdbcTemplate 배치로 보낸다. 같은 트랜잭션의 커넥션을 쓴다.
+    @Override
+    public void addWishCounts(Map<Long, Long> deltas) {
+        List<Object[]> arguments = new ArrayList<>(deltas.size());
+        for (Entry<Long, Long> delta : deltas.entrySet()) {
+            arguments.add(new Object[]{delta.getValue(), delta.getKey()});
+        }
+        jdbcTemplate.batchUpdate(
+            "update article set wish_count = greatest(wish_count + ?, 0) where id = ?",
+            arguments);
+    }
+
+    // 잠금 없는 읽기라 찜 INSERT, DELETE 를 막지 않는다.
+    @Override
+    public Map<Long, Long> findWishCountCorrections() {
+        Map<Long, Long> corrections = new HashMap<>();
+        jdbcTemplate.query(
+            "select id, correction from ("
+                + "select a.id, (select count(*) from wish w where w.article_id = a.id) "
+                + "- coalesce(a.wish_count, 0) as correction from article a) t "
+                + "where correction <> 0",
+            rs -> {
+                corrections.put(rs.getLong("id"), rs.getLong("correction"));
+            });
+        return corrections;
+    }
+
+    @Override
+    public void findWishEvents(LocalDateTime since, LocalDateTime until,
+        Consumer<TrendingEventRow> consumer) {
+        findEvents("select w.article_id, a.article_type, w.created_time from wish w "
+            + "join article a on a.id = w.article_id "
+            + "where w.created_time >= ? and w.created_time < ? and a.deleted is null",
+            since, until, consumer);
+    }
+
+    @Override
+    public void findCommentEvents(LocalDateTime since, LocalDateTime until,
+        Consumer<TrendingEventRow> consumer) {
+        findEvents("select c.article_id, a.article_type, c.created_time from comment c "
+            + "join article a on a.id = c.article_id "
+            + "where c.created_time >= ? and c.created_time < ? and a.deleted is null",
+            since, until, consumer);
+    }
+
+    private void findEvents(String sql, LocalDateTime since, LocalDateTime until,
+        Consumer<TrendingEventRow> consumer) {
+        jdbcTemplate.query(sql,
+            rs -> {
+                consumer.accept(new TrendingEventRow(rs.getLong("article_id"),
+                    ArticleType.valueOf(rs.getString("article_type")),
+                    rs.getTimestamp("created_time").toLocalDateTime()));
+            },
+            Timestamp.valueOf(since), Timestamp.valueOf(until));
+    }
+
+    // 작성자 닉네임과 찜 수, 댓글 수 컬럼을 엔티티 로딩 없이 한 번의 쿼리로 조회한다.
+    private Expression<ArticleListRow> listRow(QArticle target, Expression<?>... extra) {
+        List<Expression<?>> columns = new ArrayList<>(List.of(
+            target.id,
+            target.title,
+            target.content,
+            member.id,
+            member.nickname,
+            target.createdTime,
+            target.lastModifiedTime,
+            target.wishCount,
+            target.commentCount
+        ));
+        columns.addAll(Arrays.asList(extra));
+        return Projections.constructor(ArticleListRow.class,
+            columns.toArray(new Expression<?>[0]));
+    }
+
+    private BooleanExpression isBeforeCursor(NumberPath<Long> id, Long cursor) {
+        return ObjectUtils.isEmpty(cursor) ? null : id.lt(cursor);
     }
 
-    private BooleanExpression isSameStatusTypeQuestion(StatusType statusType) {
-        return ObjectUtils.isEmpty(statusType) ? null : question.status.eq(statusType);
+    private BooleanExpression isSameStatusType(StatusType statusType) {
+        return ObjectUtils.isEmpty(statusType) ? null : article.status.eq(statusType);
     }
 }
@@ -0,0 +1,14 @@
+package com.codewarts.noriter.article.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface CustomHashtagRepository {
+
+    Map<Long, List<String>> findContentsByArticleIds(Collection<Long> articleIds);
+
+    List<String> findContentsByArticleId(Long articleId);
+
+    List<Long> findArticleIdsByTagName(String name);
+}
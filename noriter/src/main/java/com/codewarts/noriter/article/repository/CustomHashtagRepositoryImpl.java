@@ -0,0 +1,69 @@
+package com.codewarts.noriter.article.repository;
+
+import static com.codewarts.noriter.article.domain.QHashtag.hashtag;
+import static com.codewarts.noriter.article.domain.QTag.tag;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CustomHashtagRepositoryImpl implements CustomHashtagRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 게시글 id 묶음의 해시태그를 한 번의 쿼리로 조회해 게시글 id 별로 묶는다.
+    @Override
+    public Map<Long, List<String>> findContentsByArticleIds(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Tuple> rows = queryFactory.select(hashtag.article.id, tag.name)
+            .from(hashtag)
+            .join(hashtag.tag, tag)
+            .where(
+                hashtag.article.id.in(articleIds),
+                hashtag.deleted.isFalse()
+            )
+            .orderBy(hashtag.id.asc())
+            .fetch();
+
+        Map<Long, List<String>> hashtags = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            hashtags.computeIfAbsent(row.get(hashtag.article.id), id -> new ArrayList<>())
+                .add(row.get(tag.name));
+        }
+        return hashtags;
+    }
+
+    @Override
+    public List<String> findContentsByArticleId(Long articleId) {
+        return queryFactory.select(tag.name)
+            .from(hashtag)
+            .join(hashtag.tag, tag)
+            .where(
+                hashtag.article.id.eq(articleId),
+                hashtag.deleted.isFalse()
+            )
+            .orderBy(hashtag.id.asc())
+            .fetch();
+    }
+
+    @Override
+    public List<Long> findArticleIdsByTagName(String name) {
+        return queryFactory.select(hashtag.article.id)
+            .from(hashtag)
+            .join(hashtag.tag, tag)
+            .where(
+                tag.name.eq(name),
+                hashtag.deleted.isFalse()
+            )
+            .fetch();
+    }
+}
@@ -0,0 +1,8 @@
+package com.codewarts.noriter.article.repository;
+
+import com.codewarts.noriter.article.domain.Hashtag;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface HashtagRepository extends JpaRepository<Hashtag, Long>, CustomHashtagRepository {
+
+}
@@ -0,0 +1,30 @@
+package com.codewarts.noriter.article.repository;
+
+import com.codewarts.noriter.article.domain.Tag;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    List<Tag> findAllByNameIn(Collection<String> names);
+
+    // 동시에 같은 해시태그를 만든 트랜잭션이 커밋한 행도 보이도록 잠금 읽기로 조회한다.
+    // insertIfAbsent 직후에만 호출해, 이미 잠근 행 하나만 다시 읽고 다른 트랜잭션을 기다리지 않는다.
+    // 없는 이름이나 IN 목록을 잠금 읽기로 조회하면 갭, 이웃 행 잠금이 동시 INSERT 와 교착된다.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select t from Tag t where t.name = :name")
+    Optional<Tag> findLockedByName(@Param("name") String name);
+
+    // 이미 있는 이름이면 공유 잠금만 잡고 넘어간다. on duplicate key update 는 배타 잠금을 잡아
+    // 같은 이름을 동시에 넣는 트랜잭션이 셋 이상이면 교착 상태가 된다.
+    @Modifying
+    @Query(value = "insert ignore into tag (name) values (:name)", nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name);
+}
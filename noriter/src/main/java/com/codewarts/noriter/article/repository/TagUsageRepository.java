@@ -0,0 +1,45 @@
+package com.codewarts.noriter.article.repository;
+
+import com.codewarts.noriter.article.domain.TagUsage;
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.dto.hashtag.HashtagSuggestResponse;
+import com.codewarts.noriter.article.dto.hashtag.PopularHashtagResponse;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TagUsageRepository extends JpaRepository<TagUsage, Long> {
+
+    @Modifying
+    @Query(value = "insert into tag_usage (tag_id, article_type, article_count) "
+        + "values (:tagId, :articleType, 1) "
+        + "on duplicate key update article_count = article_count + 1", nativeQuery = true)
+    void increaseArticleCount(@Param("tagId") Long tagId,
+        @Param("articleType") String articleType);
+
+    @Modifying
+    @Query(value = "update tag_usage set article_count = article_count - 1 "
+        + "where tag_id in (:tagIds) and article_type = :articleType and article_count > 0",
+        nativeQuery = true)
+    void decreaseArticleCount(@Param("tagIds") Collection<Long> tagIds,
+        @Param("articleType") String articleType);
+
+    @Query("select new com.codewarts.noriter.article.dto.hashtag.PopularHashtagResponse("
+        + "t.name, u.articleCount) "
+        + "from TagUsage u join u.tag t "
+        + "where u.articleType = :articleType and u.articleCount > 0 "
+        + "order by u.articleCount desc, t.id asc")
+    List<PopularHashtagResponse> findPopular(@Param("articleType") ArticleType articleType,
+        Pageable pageable);
+
+    @Query("select new com.codewarts.noriter.article.dto.hashtag.HashtagSuggestResponse("
+        + "t.name, sum(u.articleCount)) "
+        + "from TagUsage u join u.tag t "
+        + "group by t.id, t.name "
+        + "having sum(u.articleCount) > 0")
+    List<HashtagSuggestResponse> findArticleCountsByTag();
+}
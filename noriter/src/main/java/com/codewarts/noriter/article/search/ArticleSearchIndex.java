@@ -0,0 +1,262 @@
+package com.codewarts.noriter.article.search;
+
+import com.codewarts.noriter.article.dto.search.ArticleSearchRow;
+import com.codewarts.noriter.common.util.TransactionUtils;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 게시글 제목과 본문에 대한 메모리 역색인. 검색은 DB를 조회하지 않는다.
+@Component
+public class ArticleSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 나온 토큰은 본문보다 중요하므로 빈도를 가중해 센다.
+    private static final int TITLE_WEIGHT = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Contents contents = new Contents();
+    // 재구성 중이면 그동안 커밋된 변경을 모아 둘 곳.
+    private Rebuild rebuilding;
+
+    // 롤백된 변경이 색인에 남지 않도록 커밋 이후에 반영한다.
+    public void put(ArticleSearchRow row) {
+        TransactionUtils.afterCommit(() -> putNow(row));
+    }
+
+    public void remove(Long articleId) {
+        TransactionUtils.afterCommit(() -> removeNow(articleId));
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            contents = new Contents();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 서비스 중에 색인을 비우지 않도록 새 색인을 따로 채운 뒤 complete 에서 한 번에 교체한다.
+    // 채우는 동안 커밋된 변경은 모아 두었다가 교체 직전에 새 색인에 다시 적용한다.
+    public Rebuild startRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = new Rebuild();
+            return rebuilding;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어의 모든 토큰을 포함한 게시글을 BM25 점수, ID 역순으로 정렬한다.
+    // 커서는 이전 페이지의 마지막 게시글 ID이며, 그 게시글이 색인에서 사라졌다면 빈 결과를 반환한다.
+    public List<ArticleSearchRow> search(String query, Long cursor, int limit) {
+        List<String> terms = NgramTokenizer.tokenizeQuery(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = contents.postings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                termPostings.add(posting);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            double averageLength = (double) contents.totalLength / contents.documents.size();
+            List<Hit> hits = new ArrayList<>();
+            for (Long articleId : termPostings.get(0).keySet()) {
+                if (termPostings.stream().allMatch(posting -> posting.containsKey(articleId))) {
+                    hits.add(new Hit(contents.documents.get(articleId),
+                        score(articleId, termPostings, averageLength)));
+                }
+            }
+            hits.sort(Comparator.comparingDouble(Hit::getScore).reversed()
+                .thenComparing(hit -> hit.document.row.getId(), Comparator.reverseOrder()));
+
+            return hits.stream()
+                .skip(startIndex(hits, cursor))
+                .limit(limit)
+                .map(hit -> hit.document.row)
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인에 남아 있는(삭제되지 않은) 게시글만 요청한 순서대로 돌려준다.
+    public List<ArticleSearchRow> findRows(List<Long> articleIds) {
+        lock.readLock().lock();
+        try {
+            return articleIds.stream()
+                .map(contents.documents::get)
+                .filter(Objects::nonNull)
+                .map(document -> document.row)
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double score(Long articleId, List<Map<Long, Integer>> termPostings,
+        double averageLength) {
+        int length = contents.documents.get(articleId).length;
+        double score = 0;
+        for (Map<Long, Integer> posting : termPostings) {
+            int frequency = posting.get(articleId);
+            double idf = Math.log(1 + (contents.documents.size() - posting.size() + 0.5)
+                / (posting.size() + 0.5));
+            score += idf * frequency * (K1 + 1)
+                / (frequency + K1 * (1 - B + B * length / averageLength));
+        }
+        return score;
+    }
+
+    private long startIndex(List<Hit> hits, Long cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        for (int i = 0; i < hits.size(); i++) {
+            if (hits.get(i).document.row.getId().equals(cursor)) {
+                return i + 1L;
+            }
+        }
+        return hits.size();
+    }
+
+    private void putNow(ArticleSearchRow row) {
+        Map<String, Integer> frequencies = frequencies(row);
+        apply(index -> index.put(row, frequencies));
+    }
+
+    private void removeNow(Long articleId) {
+        apply(index -> index.remove(articleId));
+    }
+
+    private void apply(Consumer<Contents> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(contents);
+            if (rebuilding != null) {
+                rebuilding.pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> frequencies(ArticleSearchRow row) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : NgramTokenizer.tokenizeDocument(row.getTitle())) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : NgramTokenizer.tokenizeDocument(row.getContent())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    // 재구성 중인 새 색인. 한 스레드가 채우므로 complete 전까지는 잠금 없이 쓴다.
+    public class Rebuild implements AutoCloseable {
+
+        private final Contents rebuilt = new Contents();
+        private final List<Consumer<Contents>> pending = new ArrayList<>();
+
+        public void put(ArticleSearchRow row) {
+            rebuilt.put(row, frequencies(row));
+        }
+
+        public void complete() {
+            lock.writeLock().lock();
+            try {
+                if (rebuilding != this) {
+                    return;
+                }
+                pending.forEach(change -> change.accept(rebuilt));
+                contents = rebuilt;
+                rebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 재구성이 중간에 실패하면 기존 색인을 그대로 두고 변경을 더 모으지 않는다.
+        @Override
+        public void close() {
+            lock.writeLock().lock();
+            try {
+                if (rebuilding == this) {
+                    rebuilding = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static class Contents {
+
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private long totalLength;
+
+        private void put(ArticleSearchRow row, Map<String, Integer> frequencies) {
+            int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+            remove(row.getId());
+            frequencies.forEach((token, frequency) ->
+                postings.computeIfAbsent(token, key -> new HashMap<>()).put(row.getId(), frequency));
+            documents.put(row.getId(), new Document(row, frequencies.keySet(), length));
+            totalLength += length;
+        }
+
+        private void remove(Long articleId) {
+            Document document = documents.remove(articleId);
+            if (document == null) {
+                return;
+            }
+            for (String token : document.tokens) {
+                Map<Long, Integer> posting = postings.get(token);
+                posting.remove(articleId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+            totalLength -= document.length;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Document {
+
+        private final ArticleSearchRow row;
+        private final Set<String> tokens;
+        private final int length;
+    }
+
+    @RequiredArgsConstructor
+    private static class Hit {
+
+        private final Document document;
+        private final double score;
+
+        private double getScore() {
+            return score;
+        }
+    }
+}
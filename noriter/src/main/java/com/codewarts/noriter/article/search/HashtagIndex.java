@@ -0,0 +1,298 @@
+package com.codewarts.noriter.article.search;
+
+import com.codewarts.noriter.article.domain.Article;
+import com.codewarts.noriter.article.domain.Tag;
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.domain.type.HashtagMatchType;
+import com.codewarts.noriter.article.domain.type.StatusType;
+import com.codewarts.noriter.common.util.TransactionUtils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+// 해시태그, 게시판 종류, 상태별로 삭제되지 않은 게시글 ID 를 압축 비트맵으로 들고 있는 메모리 색인.
+// 해시태그 필터는 비트맵 교집합/합집합으로 계산하고, 페이지에 필요한 ID 만 DB 에서 조회한다.
+@Component
+public class HashtagIndex {
+
+    // 자유 입력 해시태그로 메모리가 끝없이 늘지 않도록 색인할 해시태그 종류를 제한한다.
+    // 한도를 넘긴 뒤 처음 나온 해시태그는 색인하지 않고, 조회 시 DB 에서 읽어 온다.
+    private static final int MAX_HASHTAGS = 100_000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Contents contents = new Contents();
+    // 재구성 중이면 그동안 커밋된 변경을 모아 둘 곳.
+    private Rebuild rebuilding;
+
+    // 롤백된 변경이 색인에 남지 않도록 커밋 이후에 반영한다.
+    public void put(Article article) {
+        List<String> hashtags = article.getTags().stream()
+            .map(Tag::getName)
+            .collect(Collectors.toList());
+        put(article.getId(), article.getArticleType(), article.getStatus(), hashtags);
+    }
+
+    public void put(Long articleId, ArticleType articleType, StatusType status,
+        Collection<String> hashtags) {
+        TransactionUtils.afterCommit(() -> putNow(articleId, articleType, status, hashtags));
+    }
+
+    public void changeStatus(Long articleId, StatusType status) {
+        TransactionUtils.afterCommit(() -> changeStatusNow(articleId, status));
+    }
+
+    public void remove(Long articleId) {
+        TransactionUtils.afterCommit(() -> removeNow(articleId));
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            contents = new Contents();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 서비스 중에 색인을 비우지 않도록 새 색인을 따로 채운 뒤 complete 에서 한 번에 교체한다.
+    // 채우는 동안 커밋된 변경은 모아 두었다가 교체 직전에 새 색인에 다시 적용한다.
+    public Rebuild startRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = new Rebuild();
+            return rebuilding;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 게시판 종류, 상태, 해시태그 조건을 모두 만족하는 게시글 ID 를 커서 이전부터 내림차순으로 limit 개 반환한다.
+    // unindexedLoader 는 색인 한도 때문에 빠진 해시태그의 게시글 ID 를 읽어 온다.
+    public List<Long> findArticleIds(ArticleType articleType, StatusType status,
+        Collection<String> hashtags, HashtagMatchType matchType, Long cursor, int limit,
+        Function<String, Collection<Long>> unindexedLoader) {
+        Set<String> distinctHashtags = new LinkedHashSet<>(hashtags);
+        if (distinctHashtags.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Roaring64Bitmap> unindexed = loadUnindexed(distinctHashtags, unindexedLoader);
+
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap matched = intersect(conditionsOf(articleType, status,
+                distinctHashtags, matchType, unindexed));
+            LongIterator iterator = cursor == null
+                ? matched.getReverseLongIterator()
+                : matched.getReverseLongIteratorFrom(cursor - 1);
+            List<Long> articleIds = new ArrayList<>(limit);
+            while (iterator.hasNext() && articleIds.size() < limit) {
+                long articleId = iterator.next();
+                // 커서가 가장 작은 ID 보다 작으면 역방향 반복자가 가장 작은 ID 를 내주므로 거른다.
+                if (cursor == null || articleId < cursor) {
+                    articleIds.add(articleId);
+                }
+            }
+            return articleIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 모두 만족해야 하는 비트맵 목록. 색인에 없는 조건은 null 로 담는다.
+    // ANY 는 해시태그 비트맵의 합집합 하나를 조건으로 삼는다.
+    private List<Roaring64Bitmap> conditionsOf(ArticleType articleType, StatusType status,
+        Set<String> hashtags, HashtagMatchType matchType, Map<String, Roaring64Bitmap> unindexed) {
+        List<Roaring64Bitmap> conditions = new ArrayList<>();
+        conditions.add(contents.articlesByType.get(articleType));
+        if (status != null) {
+            conditions.add(contents.articlesByStatus.get(status));
+        }
+        if (matchType == HashtagMatchType.ANY) {
+            Roaring64Bitmap union = new Roaring64Bitmap();
+            for (String hashtag : hashtags) {
+                Roaring64Bitmap articles = bitmapOf(hashtag, unindexed);
+                if (articles != null) {
+                    union.or(articles);
+                }
+            }
+            conditions.add(union);
+            return conditions;
+        }
+        hashtags.forEach(hashtag -> conditions.add(bitmapOf(hashtag, unindexed)));
+        return conditions;
+    }
+
+    // 게시판 종류 비트맵은 게시판 글 전체라 가장 크다. 통째로 복사하지 않도록 가장 작은 비트맵만 복사해
+    // 작은 것부터 교집합을 구하고, 비면 나머지는 보지 않는다.
+    private Roaring64Bitmap intersect(List<Roaring64Bitmap> conditions) {
+        if (conditions.contains(null)) {
+            return new Roaring64Bitmap();
+        }
+        conditions.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+        Roaring64Bitmap result = copyOf(conditions.get(0));
+        for (int i = 1; i < conditions.size() && !result.isEmpty(); i++) {
+            result.and(conditions.get(i));
+        }
+        return result;
+    }
+
+    private Roaring64Bitmap bitmapOf(String hashtag, Map<String, Roaring64Bitmap> unindexed) {
+        return contents.articlesByHashtag.getOrDefault(hashtag, unindexed.get(hashtag));
+    }
+
+    // DB 조회 중에는 색인 잠금을 잡지 않도록 빠진 해시태그를 먼저 읽어 둔다.
+    private Map<String, Roaring64Bitmap> loadUnindexed(Set<String> hashtags,
+        Function<String, Collection<Long>> unindexedLoader) {
+        List<String> missing;
+        lock.readLock().lock();
+        try {
+            if (!contents.overflowed) {
+                return Map.of();
+            }
+            missing = hashtags.stream()
+                .filter(hashtag -> !contents.articlesByHashtag.containsKey(hashtag))
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, Roaring64Bitmap> unindexed = new HashMap<>();
+        for (String hashtag : missing) {
+            Roaring64Bitmap articles = new Roaring64Bitmap();
+            unindexedLoader.apply(hashtag).forEach(articles::addLong);
+            unindexed.put(hashtag, articles);
+        }
+        return unindexed;
+    }
+
+    private void putNow(Long articleId, ArticleType articleType, StatusType status,
+        Collection<String> hashtags) {
+        apply(index -> index.put(articleId, articleType, status, hashtags));
+    }
+
+    private void changeStatusNow(Long articleId, StatusType status) {
+        apply(index -> index.changeStatus(articleId, status));
+    }
+
+    private void removeNow(Long articleId) {
+        apply(index -> index.remove(articleId));
+    }
+
+    private void apply(Consumer<Contents> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(contents);
+            if (rebuilding != null) {
+                rebuilding.pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Roaring64Bitmap copyOf(Roaring64Bitmap source) {
+        Roaring64Bitmap copy = new Roaring64Bitmap();
+        copy.or(source);
+        return copy;
+    }
+
+    // 재구성 중인 새 색인. 한 스레드가 채우므로 complete 전까지는 잠금 없이 쓴다.
+    public class Rebuild implements AutoCloseable {
+
+        private final Contents rebuilt = new Contents();
+        private final List<Consumer<Contents>> pending = new ArrayList<>();
+
+        public void put(Long articleId, ArticleType articleType, StatusType status,
+            Collection<String> hashtags) {
+            rebuilt.put(articleId, articleType, status, hashtags);
+        }
+
+        public void complete() {
+            lock.writeLock().lock();
+            try {
+                if (rebuilding != this) {
+                    return;
+                }
+                pending.forEach(change -> change.accept(rebuilt));
+                contents = rebuilt;
+                rebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 재구성이 중간에 실패하면 기존 색인을 그대로 두고 변경을 더 모으지 않는다.
+        @Override
+        public void close() {
+            lock.writeLock().lock();
+            try {
+                if (rebuilding == this) {
+                    rebuilding = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static class Contents {
+
+        private final Map<String, Roaring64Bitmap> articlesByHashtag = new HashMap<>();
+        private final Map<ArticleType, Roaring64Bitmap> articlesByType = new EnumMap<>(
+            ArticleType.class);
+        private final Map<StatusType, Roaring64Bitmap> articlesByStatus = new EnumMap<>(
+            StatusType.class);
+        private boolean overflowed;
+
+        private void put(Long articleId, ArticleType articleType, StatusType status,
+            Collection<String> hashtags) {
+            remove(articleId);
+            bitmapOf(articlesByType, articleType).addLong(articleId);
+            if (status != null) {
+                bitmapOf(articlesByStatus, status).addLong(articleId);
+            }
+            for (String hashtag : hashtags) {
+                // 한 번 한도를 넘기면 재구성 전까지 새 해시태그를 만들지 않는다. 도중부터 색인된 해시태그가 없어야 한다.
+                if (!articlesByHashtag.containsKey(hashtag)
+                    && (overflowed || articlesByHashtag.size() >= MAX_HASHTAGS)) {
+                    overflowed = true;
+                    continue;
+                }
+                bitmapOf(articlesByHashtag, hashtag).addLong(articleId);
+            }
+        }
+
+        private void changeStatus(Long articleId, StatusType status) {
+            articlesByStatus.values().forEach(articles -> articles.removeLong(articleId));
+            bitmapOf(articlesByStatus, status).addLong(articleId);
+        }
+
+        // 게시글별 해시태그 목록을 따로 들고 있지 않는 대신 모든 비트맵에서 ID 를 지운다. 수정, 삭제는 조회보다 드물다.
+        private void remove(Long articleId) {
+            articlesByType.values().forEach(articles -> articles.removeLong(articleId));
+            articlesByStatus.values().forEach(articles -> articles.removeLong(articleId));
+            articlesByHashtag.values().removeIf(articles -> {
+                articles.removeLong(articleId);
+                return articles.isEmpty();
+            });
+        }
+
+        private static <K> Roaring64Bitmap bitmapOf(Map<K, Roaring64Bitmap> bitmaps, K key) {
+            return bitmaps.computeIfAbsent(key, k -> new Roaring64Bitmap());
+        }
+    }
+}
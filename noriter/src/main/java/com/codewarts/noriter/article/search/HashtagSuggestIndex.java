@@ -0,0 +1,188 @@
+package com.codewarts.noriter.article.search;
+
+import com.codewarts.noriter.article.dto.hashtag.HashtagSuggestResponse;
+import com.codewarts.noriter.common.util.TransactionUtils;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+// 해시태그 이름을 글자 단위 트라이로 들고 있는 자동완성 색인.
+// 노드마다 하위 해시태그 중 사용 수 상위 MAX_SUGGESTIONS 개를 미리 들고 있어서, 조회는 접두어 길이만큼만 내려간다.
+@Component
+public class HashtagSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Suggestion> ORDER = Comparator
+        .comparingLong(Suggestion::getArticleCount).reversed()
+        .thenComparing(Suggestion::getName);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+
+    public List<HashtagSuggestResponse> suggest(String prefix, int size) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return node.top.stream()
+                .limit(size)
+                .map(suggestion -> new HashtagSuggestResponse(suggestion.name,
+                    suggestion.articleCount))
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 롤백된 변경이 색인에 남지 않도록 커밋 이후에 반영한다.
+    public void increase(String name) {
+        TransactionUtils.afterCommit(() -> add(name, 1));
+    }
+
+    public void decrease(String name) {
+        TransactionUtils.afterCommit(() -> add(name, -1));
+    }
+
+    // 기동 시 이름별 사용 수로 트라이를 새로 만들어 교체한다.
+    public void rebuild(List<HashtagSuggestResponse> articleCounts) {
+        Node rebuilt = new Node();
+        articleCounts.forEach(
+            hashtag -> update(rebuilt, hashtag.getName(), hashtag.getArticleCount()));
+        lock.writeLock().lock();
+        try {
+            root = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        rebuild(List.of());
+    }
+
+    private void add(String name, long delta) {
+        lock.writeLock().lock();
+        try {
+            Node node = find(root, normalize(name));
+            long articleCount = node == null ? 0 : node.articleCount;
+            update(root, name, Math.max(0, articleCount + delta));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 이름이 끝나는 노드의 사용 수를 바꾸고, 그 경로에 있는 노드들의 상위 목록을 아래에서부터 고친다.
+    private void update(Node root, String name, long articleCount) {
+        String key = normalize(name);
+        if (key.isEmpty()) {
+            return;
+        }
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            path.add(node);
+        }
+        node.name = name;
+        node.articleCount = articleCount;
+
+        Suggestion changed = new Suggestion(name, articleCount);
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).refresh(changed);
+        }
+    }
+
+    private Node find(Node root, String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    // 대소문자와 전각/반각 차이는 같은 접두어로 본다.
+    private String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private String name;
+        private long articleCount;
+        private List<Suggestion> top = List.of();
+
+        // 바뀐 해시태그가 상위 목록에 들어가거나 순위만 바뀌면 목록 안에서 고치고,
+        // 목록에서 밀려날 수 있는 경우(사용 수 감소)에만 자식들의 목록을 합쳐 다시 계산한다.
+        private void refresh(Suggestion changed) {
+            Suggestion previous = top.stream()
+                .filter(suggestion -> suggestion.name.equals(changed.name))
+                .findFirst()
+                .orElse(null);
+            boolean decreased = previous != null && changed.articleCount < previous.articleCount;
+            if (decreased && top.size() == MAX_SUGGESTIONS) {
+                recompute();
+                return;
+            }
+
+            List<Suggestion> updated = new ArrayList<>(top);
+            updated.remove(previous);
+            if (changed.articleCount > 0) {
+                updated.add(changed);
+            }
+            updated.sort(ORDER);
+            top = List.copyOf(updated.subList(0, Math.min(MAX_SUGGESTIONS, updated.size())));
+        }
+
+        private void recompute() {
+            List<Suggestion> candidates = new ArrayList<>();
+            if (name != null && articleCount > 0) {
+                candidates.add(new Suggestion(name, articleCount));
+            }
+            children.values().forEach(child -> candidates.addAll(child.top));
+            candidates.sort(ORDER);
+            top = List.copyOf(candidates.subList(0, Math.min(MAX_SUGGESTIONS, candidates.size())));
+        }
+    }
+
+    private static class Suggestion {
+
+        private final String name;
+        private final long articleCount;
+
+        private Suggestion(String name, long articleCount) {
+            this.name = name;
+            this.articleCount = articleCount;
+        }
+
+        private String getName() {
+            return name;
+        }
+
+        private long getArticleCount() {
+            return articleCount;
+        }
+    }
+}
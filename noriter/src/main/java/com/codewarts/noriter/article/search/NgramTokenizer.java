@@ -0,0 +1,60 @@
+package com.codewarts.noriter.article.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 한국어는 조사가 붙고 띄어쓰기가 일정하지 않아 형태소 분석 없이 글자 단위 n-gram 으로 색인한다.
+public class NgramTokenizer {
+
+    private static final String WORD_DELIMITER = "[^\\p{L}\\p{N}]+";
+    private static final int GRAM_SIZE = 2;
+
+    private NgramTokenizer() {
+    }
+
+    // 한 글자 검색어도 찾을 수 있도록 문서는 한 글자 토큰과 두 글자 토큰을 모두 만든다.
+    public static List<String> tokenizeDocument(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + GRAM_SIZE <= word.length()) {
+                    tokens.add(word.substring(i, i + GRAM_SIZE));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어는 두 글자 이상이면 두 글자 토큰만, 한 글자 단어는 그대로 사용한다.
+    public static List<String> tokenizeQuery(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() < GRAM_SIZE) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+                tokens.add(word.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT);
+        return Arrays.stream(normalized.split(WORD_DELIMITER))
+            .filter(word -> !word.isEmpty())
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,273 @@
+package com.codewarts.noriter.article.search;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.common.util.TransactionUtils;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+// 찜, 댓글 이벤트에 시간 감쇠를 적용한 게시판별 인기 게시글 순위.
+// 점수는 기준 시각(epoch)으로 환산해 저장하므로, 이벤트가 없는 게시글의 점수를 매번 다시 계산하지 않아도 순서가 유지된다.
+@Component
+public class TrendingIndex {
+
+    private static final double WISH_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    // 반감기마다 이전 이벤트의 영향이 절반이 된다.
+    private static final double HALF_LIFE_MILLIS = TimeUnit.HOURS.toMillis(12);
+    // 환산 배율이 double 범위를 넘지 않도록 이만큼 반감기가 지나면 기준 시각을 옮기고 점수를 줄인다.
+    private static final double MAX_HALF_LIVES = 64;
+    // 게시판마다 점수를 들고 있는 게시글 수 한도. 넘치면 점수가 가장 낮은 게시글을 버린다.
+    private static final int MAX_TRACKED = 1_000;
+    // 재구성 시 읽어 올 이벤트 기간. 14 반감기가 지난 이벤트는 점수가 만분의 1 아래라 순위에 영향이 없다.
+    private static final Duration REBUILD_WINDOW = Duration.ofDays(7);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<ArticleType, Board> boards = new EnumMap<>(ArticleType.class);
+    private long epochMillis = System.currentTimeMillis();
+    // 재구성 중이면 그동안 커밋된 이벤트를 모아 둘 곳.
+    private Rebuild rebuilding;
+
+    // 롤백된 이벤트가 순위에 남지 않도록 커밋 이후에 반영한다.
+    public void recordWish(Long articleId, ArticleType articleType) {
+        TransactionUtils.afterCommit(() -> add(articleId, articleType, WISH_WEIGHT));
+    }
+
+    // 찜 취소는 지금 시점의 찜 한 번만큼 점수를 뺀다. 찜을 누르고 바로 취소하면 정확히 상쇄된다.
+    public void cancelWish(Long articleId, ArticleType articleType) {
+        TransactionUtils.afterCommit(() -> add(articleId, articleType, -WISH_WEIGHT));
+    }
+
+    public void recordComment(Long articleId, ArticleType articleType) {
+        TransactionUtils.afterCommit(() -> add(articleId, articleType, COMMENT_WEIGHT));
+    }
+
+    public void remove(Long articleId) {
+        TransactionUtils.afterCommit(() -> apply(
+            () -> boards.values().forEach(board -> board.remove(articleId))));
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            boards = new EnumMap<>(ArticleType.class);
+            epochMillis = System.currentTimeMillis();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 기동 시 DB 에 남은 최근 찜, 댓글로 순위를 새로 채운 뒤 complete 에서 한 번에 교체한다.
+    // 채우는 동안 커밋된 이벤트는 모아 두었다가 교체한 뒤에 다시 적용한다.
+    public Rebuild startRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = new Rebuild(System.currentTimeMillis());
+            return rebuilding;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 점수가 높은 순서로 게시글 ID 를 limit 개 반환한다.
+    public List<Long> findTop(ArticleType articleType, int limit) {
+        lock.readLock().lock();
+        try {
+            Board board = boards.get(articleType);
+            if (board == null) {
+                return List.of();
+            }
+            return board.ranking.stream()
+                .limit(limit)
+                .map(entry -> entry.articleId)
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Long articleId, ArticleType articleType, double weight) {
+        long now = System.currentTimeMillis();
+        apply(() -> {
+            double halfLives = (now - epochMillis) / HALF_LIFE_MILLIS;
+            if (halfLives > MAX_HALF_LIVES) {
+                rebase(Math.pow(2, -halfLives));
+                epochMillis = now;
+                halfLives = 0;
+            }
+            boards.computeIfAbsent(articleType, type -> new Board())
+                .add(articleId, weight * Math.pow(2, halfLives));
+        });
+    }
+
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (rebuilding != null) {
+                rebuilding.pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모든 점수에 같은 배율을 곱하므로 순위는 바뀌지 않는다.
+    private void rebase(double factor) {
+        boards.values().forEach(board -> board.scale(factor));
+    }
+
+    // 재구성 중인 새 순위. 한 스레드가 채우므로 complete 전까지는 잠금 없이 쓴다.
+    // 같은 게시글의 이벤트가 흩어져 와도 한도에 밀려나지 않도록 점수를 모두 더한 뒤에 순위에 넣는다.
+    public class Rebuild implements AutoCloseable {
+
+        private final long rebuiltEpochMillis;
+        private final Map<ArticleType, Map<Long, Double>> scores = new EnumMap<>(
+            ArticleType.class);
+        private final List<Runnable> pending = new ArrayList<>();
+
+        private Rebuild(long rebuiltEpochMillis) {
+            this.rebuiltEpochMillis = rebuiltEpochMillis;
+        }
+
+        public void recordWish(Long articleId, ArticleType articleType, LocalDateTime time) {
+            add(articleId, articleType, WISH_WEIGHT, time);
+        }
+
+        public void recordComment(Long articleId, ArticleType articleType, LocalDateTime time) {
+            add(articleId, articleType, COMMENT_WEIGHT, time);
+        }
+
+        // 재구성에 넣을 이벤트의 기간. 시작 시각 이후의 이벤트는 모아 둔 이벤트로 다시 적용되므로 넣지 않는다.
+        public LocalDateTime getSince() {
+            return getUntil().minus(REBUILD_WINDOW);
+        }
+
+        public LocalDateTime getUntil() {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(rebuiltEpochMillis),
+                ZoneId.systemDefault());
+        }
+
+        public void complete() {
+            Map<ArticleType, Board> rebuilt = new EnumMap<>(ArticleType.class);
+            scores.forEach((articleType, articleScores) -> {
+                Board board = rebuilt.computeIfAbsent(articleType, type -> new Board());
+                articleScores.forEach(board::add);
+            });
+            lock.writeLock().lock();
+            try {
+                if (rebuilding != this) {
+                    return;
+                }
+                boards = rebuilt;
+                epochMillis = rebuiltEpochMillis;
+                rebuilding = null;
+                pending.forEach(Runnable::run);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 재구성이 중간에 실패하면 기존 순위를 그대로 두고 이벤트를 더 모으지 않는다.
+        @Override
+        public void close() {
+            lock.writeLock().lock();
+            try {
+                if (rebuilding == this) {
+                    rebuilding = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 재구성 시작 시각을 기준 시각으로 삼으므로 과거 이벤트는 지난 반감기만큼 줄어든 점수가 된다.
+        private void add(Long articleId, ArticleType articleType, double weight,
+            LocalDateTime time) {
+            long eventMillis = time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            double halfLives = (eventMillis - rebuiltEpochMillis) / HALF_LIFE_MILLIS;
+            scores.computeIfAbsent(articleType, type -> new HashMap<>())
+                .merge(articleId, weight * Math.pow(2, halfLives), Double::sum);
+        }
+    }
+
+    private static class Board {
+
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final TreeSet<Entry> ranking = new TreeSet<>(Comparator
+            .comparingDouble(Entry::getScore).reversed()
+            .thenComparing(Entry::getArticleId, Comparator.reverseOrder()));
+
+        private void add(Long articleId, double delta) {
+            Entry previous = entries.get(articleId);
+            double score = (previous == null ? 0 : previous.score) + delta;
+            remove(articleId);
+            if (score <= 0) {
+                return;
+            }
+            // 한도가 찼으면 가장 낮은 점수보다 높을 때만 그 게시글을 밀어내고 들어간다.
+            if (entries.size() >= MAX_TRACKED) {
+                Entry lowest = ranking.last();
+                if (lowest.score >= score) {
+                    return;
+                }
+                remove(lowest.articleId);
+            }
+            Entry entry = new Entry(articleId, score);
+            entries.put(articleId, entry);
+            ranking.add(entry);
+        }
+
+        private void remove(Long articleId) {
+            Entry entry = entries.remove(articleId);
+            if (entry != null) {
+                ranking.remove(entry);
+            }
+        }
+
+        private void scale(double factor) {
+            List<Entry> scaled = new ArrayList<>(entries.size());
+            for (Entry entry : entries.values()) {
+                scaled.add(new Entry(entry.articleId, entry.score * factor));
+            }
+            entries.clear();
+            ranking.clear();
+            for (Entry entry : scaled) {
+                entries.put(entry.articleId, entry);
+                ranking.add(entry);
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final Long articleId;
+        private final double score;
+
+        private Entry(Long articleId, double score) {
+            this.articleId = articleId;
+            this.score = score;
+        }
+
+        private Long getArticleId() {
+            return articleId;
+        }
+
+        private double getScore() {
+            return score;
+        }
+    }
+}
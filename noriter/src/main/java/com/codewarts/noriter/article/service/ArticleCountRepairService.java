@@ -0,0 +1,25 @@
+package com.codewarts.noriter.article.service;
+
+import com.codewarts.noriter.article.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleCountRepairService {
+
+    private final ArticleRepository articleRepository;
+
+    // comment 테이블의 삭제되지 않은 댓글을 기준으로 게시글의 댓글 수를 다시 계산한다.
+    // 댓글 수는 댓글 작성, 삭제와 같은 트랜잭션에서 게시글 행을 잠그고 바꾸므로 통째로 다시 세어도 어긋나지 않는다.
+    @Transactional
+    @Scheduled(cron = "${article.count-repair.cron:0 0 4 * * *}")
+    public void repair() {
+        int updated = articleRepository.recalculateCommentCounts();
+        log.info("게시글 댓글 수 재계산 완료: {}건", updated);
+    }
+}
@@ -0,0 +1,62 @@
+package com.codewarts.noriter.article.service;
+
+import com.codewarts.noriter.article.dto.search.ArticleSearchPageResponse;
+import com.codewarts.noriter.article.dto.search.ArticleSearchResponse;
+import com.codewarts.noriter.article.dto.search.ArticleSearchRow;
+import com.codewarts.noriter.article.repository.ArticleRepository;
+import com.codewarts.noriter.article.repository.HashtagRepository;
+import com.codewarts.noriter.article.search.ArticleSearchIndex;
+import com.codewarts.noriter.article.search.HashtagIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ArticleSearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final ArticleRepository articleRepository;
+    private final HashtagRepository hashtagRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final HashtagIndex hashtagIndex;
+
+    public ArticleSearchPageResponse search(String query, Long cursor, int size) {
+        List<ArticleSearchResponse> responses = articleSearchIndex.search(query, cursor, size + 1)
+            .stream()
+            .map(ArticleSearchResponse::new)
+            .collect(Collectors.toList());
+        return ArticleSearchPageResponse.of(responses, size);
+    }
+
+    // 기동 시 삭제되지 않은 게시글을 ID 순으로 나눠 읽으며 검색 색인과 해시태그 색인을 새로 만든다.
+    // 이미 요청을 받는 중이므로 기존 색인은 비우지 않고, 다 채운 뒤 한 번에 교체한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try (ArticleSearchIndex.Rebuild searchRebuild = articleSearchIndex.startRebuild();
+            HashtagIndex.Rebuild hashtagRebuild = hashtagIndex.startRebuild()) {
+            Long lastId = 0L;
+            List<ArticleSearchRow> rows;
+            do {
+                rows = articleRepository.findSearchRows(lastId, REBUILD_BATCH_SIZE);
+                Map<Long, List<String>> hashtags = hashtagRepository.findContentsByArticleIds(
+                    rows.stream().map(ArticleSearchRow::getId).collect(Collectors.toList()));
+                for (ArticleSearchRow row : rows) {
+                    searchRebuild.put(row);
+                    hashtagRebuild.put(row.getId(), row.getArticleType(), row.getStatus(),
+                        hashtags.getOrDefault(row.getId(), List.of()));
+                }
+                if (!rows.isEmpty()) {
+                    lastId = rows.get(rows.size() - 1).getId();
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+            searchRebuild.complete();
+            hashtagRebuild.complete();
+        }
+    }
+}
@@ -3,13 +3,12 @@ package com.codewarts.noriter.article.service;
 import com.codewarts.noriter.article.domain.type.StatusType;
 import com.codewarts.noriter.article.dto.article.ArticleCreateRequest;
 import com.codewarts.noriter.article.dto.article.ArticleDetailResponse;
-import com.codewarts.noriter.article.dto.article.ArticleListResponse;
+import com.codewarts.noriter.article.dto.article.ArticlePageResponse;
 import com.codewarts.noriter.article.dto.article.ArticleUpdateRequest;
 import com.codewarts.noriter.exception.GlobalNoriterException;
 import com.codewarts.noriter.exception.type.MemberExceptionType;
 import com.codewarts.noriter.member.domain.Member;
 import com.codewarts.noriter.member.repository.MemberRepository;
-import java.util.List;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -27,11 +26,11 @@ public abstract class ArticleService {
     }
 
 
-    List<ArticleListResponse> findList(Long memberId) {
+    ArticlePageResponse findList(Long cursor, int size, Long memberId) {
         return null;
     }
 
-    List<ArticleListResponse> findList(StatusType status, Long memberId) {
+    ArticlePageResponse findList(StatusType status, Long cursor, int size, Long memberId) {
         return null;
     }
 
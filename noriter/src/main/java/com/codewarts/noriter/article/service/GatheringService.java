@@ -1,23 +1,41 @@
 package com.codewarts.noriter.article.service;
 
+import com.codewarts.noriter.article.cache.ArticleDetailCache;
+import com.codewarts.noriter.article.cache.ArticleListCache;
+import com.codewarts.noriter.article.cache.ArticleListPage;
 import com.codewarts.noriter.article.domain.Gathering;
+import com.codewarts.noriter.article.domain.Tag;
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.domain.type.HashtagMatchType;
 import com.codewarts.noriter.article.domain.type.StatusType;
 import com.codewarts.noriter.article.dto.article.ArticleCreateRequest;
 import com.codewarts.noriter.article.dto.article.ArticleListResponse;
+import com.codewarts.noriter.article.dto.article.ArticleListRow;
+import com.codewarts.noriter.article.dto.article.ArticlePageResponse;
 import com.codewarts.noriter.article.dto.article.ArticleUpdateRequest;
 import com.codewarts.noriter.article.dto.gathering.GatheringDetailResponse;
 import com.codewarts.noriter.article.dto.gathering.GatheringListResponse;
+import com.codewarts.noriter.article.dto.search.ArticleSearchRow;
 import com.codewarts.noriter.article.repository.GatheringRepository;
+import com.codewarts.noriter.article.repository.HashtagRepository;
+import com.codewarts.noriter.article.search.ArticleSearchIndex;
+import com.codewarts.noriter.article.search.HashtagIndex;
+import com.codewarts.noriter.article.search.TrendingIndex;
+import com.codewarts.noriter.comment.service.CommentTreeAssembler;
 import com.codewarts.noriter.exception.GlobalNoriterException;
 import com.codewarts.noriter.exception.type.ArticleExceptionType;
-import com.codewarts.noriter.exception.type.MemberExceptionType;
+import com.codewarts.noriter.member.cache.MemberCache;
 import com.codewarts.noriter.member.domain.Member;
-import com.codewarts.noriter.member.repository.MemberRepository;
-import com.codewarts.noriter.wish.repository.WishRepository;
+import com.codewarts.noriter.wish.cache.MemberWishCache;
+import com.codewarts.noriter.wish.counter.WishCountBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -26,8 +44,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class GatheringService extends ArticleService {
 
     private final GatheringRepository gatheringRepository;
-    private final WishRepository wishRepository;
-    private final MemberRepository memberRepository;
+    private final HashtagRepository hashtagRepository;
+    private final ArticleListCache articleListCache;
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final HashtagIndex hashtagIndex;
+    private final TrendingIndex trendingIndex;
+    private final WishCountBuffer wishCountBuffer;
+    private final TagService tagService;
+    private final CommentTreeAssembler commentTreeAssembler;
+    private final MemberWishCache memberWishCache;
+    private final MemberCache memberCache;
 
 
     @Override
@@ -35,30 +62,56 @@ public class GatheringService extends ArticleService {
     public Long create(ArticleCreateRequest gatheringCreateRequest, Long memberId) {
         Member member = findMember(memberId);
         Gathering gathering = (Gathering) gatheringCreateRequest.toEntity(member);
-        return gatheringRepository.save(gathering).getId();
+        List<Tag> tags = tagService.findOrCreate(gatheringCreateRequest.getHashtags());
+        gathering.addHashtags(tags);
+        Long id = gatheringRepository.save(gathering).getId();
+        tagService.increaseUsage(ArticleType.GATHERING, tags);
+        articleListCache.evict(ArticleType.GATHERING);
+        articleSearchIndex.put(
+            ArticleSearchRow.from(gathering, memberCache.getWriterInfo(memberId)));
+        hashtagIndex.put(gathering);
+        return id;
     }
 
     @Override
-    public List<ArticleListResponse> findList(StatusType status, Long memberId) {
-        return gatheringRepository.findAllGatheringList(status).stream()
-            .map(gathering -> new GatheringListResponse(gathering,
-                isSameWriter(gathering, memberId),
-                isWished(gathering, memberId)))
-            .collect(Collectors.toList());
+    public ArticlePageResponse findList(StatusType status, Long cursor, int size, Long memberId) {
+        ArticleListPage page = articleListCache.get(ArticleType.GATHERING, status, cursor, size,
+            () -> loadPage(
+                gatheringRepository.findAllGatheringList(status, cursor, size + 1)));
+        return toPageResponse(page, size, memberId);
     }
 
+    // 해시태그 필터는 색인에서 페이지에 해당하는 ID 만 골라 목록 행을 조회한다.
+    public ArticlePageResponse findList(StatusType status, List<String> hashtags,
+        HashtagMatchType matchType, Long cursor, int size, Long memberId) {
+        List<String> tagNames = tagService.findCanonicalNames(hashtags);
+        if (tagNames.isEmpty()) {
+            return findList(status, cursor, size, memberId);
+        }
+        ArticleListPage page = loadPage(
+            findRowsByHashtags(status, tagNames, matchType, cursor, size + 1));
+        return toPageResponse(page, size, memberId);
+    }
+
+    // 상세 캐시가 비워진 뒤의 조회는 그 뒤에 커밋된 댓글을 읽어야 하므로 문장마다 최신 커밋을 읽는다.
     @Override
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public GatheringDetailResponse findDetail(Long id, Long memberId) {
         Gathering gathering = findNotDeletedGathering(id);
+        GatheringDetailResponse detail = articleDetailCache.get(id,
+            gathering.getLastModifiedTime(), () -> new GatheringDetailResponse(gathering,
+                hashtagRepository.findContentsByArticleId(id), commentTreeAssembler.assemble(id),
+                false, false));
         boolean sameWriter = gathering.getWriter().getId().equals(memberId);
+        // 찜 수는 상세 캐시 대신 매번 읽는 게시글의 값에 아직 반영되지 않은 변화량을 더한다.
+        int wishCount = (int) (gathering.getWishCount() + wishCountBuffer.pendingDelta(id));
 
         if (memberId == null) {
-            return new GatheringDetailResponse(gathering, false, false);
+            return detail.withViewer(false, false, wishCount);
         }
-        Member member = findMember(memberId);
-        boolean wish = wishRepository.existsByArticleAndMember(gathering, member);
+        boolean wish = memberWishCache.contains(memberId, id);
 
-        return new GatheringDetailResponse(gathering, sameWriter, wish);
+        return detail.withViewer(sameWriter, wish, wishCount);
     }
 
     @Override
@@ -68,6 +121,12 @@ public class GatheringService extends ArticleService {
         Gathering gathering = findNotDeletedGathering(id);
         gathering.validateWriterOrThrow(writerId);
         gathering.delete();
+        tagService.decreaseUsage(ArticleType.GATHERING, gathering.getTags());
+        articleListCache.evict(ArticleType.GATHERING);
+        articleDetailCache.evict(id);
+        articleSearchIndex.remove(id);
+        hashtagIndex.remove(id);
+        trendingIndex.remove(id);
     }
 
     @Transactional
@@ -84,6 +143,9 @@ public class GatheringService extends ArticleService {
         } else {
             gathering.changeStatusToIncomplete();
         }
+        articleListCache.evict(ArticleType.GATHERING);
+        articleDetailCache.evict(id);
+        hashtagIndex.changeStatus(id, status);
     }
 
     @Override
@@ -92,13 +154,20 @@ public class GatheringService extends ArticleService {
         findMember(writerId);
         Gathering gathering = findNotDeletedGathering(id);
         gathering.validateWriterOrThrow(writerId);
-        gathering.update(request.getTitle(), request.getContent(), request.getHashtags());
+        List<Tag> tags = tagService.findOrCreate(request.getHashtags());
+        tagService.changeUsage(ArticleType.GATHERING, gathering.getTags(), tags);
+        gathering.update(request.getTitle(), request.getContent(), tags);
+        articleListCache.evict(ArticleType.GATHERING);
+        articleDetailCache.evict(id);
+        articleSearchIndex.put(
+            ArticleSearchRow.from(gathering, memberCache.getWriterInfo(writerId)));
+        hashtagIndex.put(gathering);
     }
 
+    // 회원 존재는 캐시로 확인하고, 작성자 외래 키에는 SELECT 없이 만든 프록시를 쓴다.
     @Override
     Member findMember(Long id) {
-        return memberRepository.findById(id).orElseThrow(() -> new GlobalNoriterException(
-            MemberExceptionType.MEMBER_NOT_FOUND));
+        return memberCache.getReference(id);
     }
 
     private Gathering findNotDeletedGathering(Long id) {
@@ -110,14 +179,51 @@ public class GatheringService extends ArticleService {
         return gathering;
     }
 
-    private boolean isSameWriter(Gathering gathering, Long memberId) {
-        if (memberId == null) return false;
-        return gathering.getWriter().getId().equals(memberId);
+    // 색인은 커밋 이후에 반영되므로 방금 삭제된 게시글이 남아 있을 수 있다.
+    // DB 에서 걸러져 모자란 만큼 마지막 ID 다음부터 색인을 다시 읽어 limit 개를 채운다.
+    private List<ArticleListRow> findRowsByHashtags(StatusType status, List<String> tagNames,
+        HashtagMatchType matchType, Long cursor, int limit) {
+        List<ArticleListRow> rows = new ArrayList<>(limit);
+        Long from = cursor;
+        while (rows.size() < limit) {
+            int missing = limit - rows.size();
+            List<Long> articleIds = hashtagIndex.findArticleIds(ArticleType.GATHERING, status, tagNames,
+                matchType, from, missing, hashtagRepository::findArticleIdsByTagName);
+            rows.addAll(gatheringRepository.findListRowsByIds(articleIds));
+            if (articleIds.size() < missing) {
+                break;
+            }
+            from = articleIds.get(articleIds.size() - 1);
+        }
+        return rows;
     }
 
-    private boolean isWished(Gathering gathering, Long memberId) {
+    private ArticleListPage loadPage(List<ArticleListRow> rows) {
+        List<Long> articleIds = rows.stream()
+            .map(ArticleListRow::getId)
+            .collect(Collectors.toList());
+        return ArticleListPage.of(rows, hashtagRepository.findContentsByArticleIds(articleIds));
+    }
+
+    private ArticlePageResponse toPageResponse(ArticleListPage page, int size, Long memberId) {
+        Set<Long> wishedArticleIds = findWishedArticleIds(page.getArticleIds(), memberId);
+
+        List<ArticleListResponse> responses = page.getRows().stream()
+            .map(row -> new GatheringListResponse(row,
+                page.getHashtags(row.getId()),
+                isSameWriter(row, memberId),
+                wishedArticleIds.contains(row.getId())))
+            .collect(Collectors.toList());
+        return ArticlePageResponse.of(responses, size);
+    }
+
+    private boolean isSameWriter(ArticleListRow row, Long memberId) {
         if (memberId == null) return false;
-        Member member = findMember(memberId);
-        return wishRepository.existsByArticleAndMember(gathering, member);
+        return row.getWriterId().equals(memberId);
+    }
+
+    private Set<Long> findWishedArticleIds(List<Long> articleIds, Long memberId) {
+        if (memberId == null || articleIds.isEmpty()) return Collections.emptySet();
+        return memberWishCache.findWishedArticleIds(memberId, articleIds);
     }
 }
@@ -0,0 +1,28 @@
+package com.codewarts.noriter.article.service;
+
+import com.codewarts.noriter.article.dto.hashtag.HashtagSuggestResponse;
+import com.codewarts.noriter.article.repository.TagUsageRepository;
+import com.codewarts.noriter.article.search.HashtagSuggestIndex;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class HashtagSuggestService {
+
+    private final TagUsageRepository tagUsageRepository;
+    private final HashtagSuggestIndex hashtagSuggestIndex;
+
+    public List<HashtagSuggestResponse> suggest(String prefix, int size) {
+        return hashtagSuggestIndex.suggest(prefix, size);
+    }
+
+    // 기동 시 전체 게시판의 사용 수를 합쳐 자동완성 색인을 만든다. 이후에는 TagService 가 증감을 반영한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        hashtagSuggestIndex.rebuild(tagUsageRepository.findArticleCountsByTag());
+    }
+}
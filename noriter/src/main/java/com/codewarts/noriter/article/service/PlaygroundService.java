@@ -1,23 +1,40 @@
 package com.codewarts.noriter.article.service;
 
+import com.codewarts.noriter.article.cache.ArticleDetailCache;
+import com.codewarts.noriter.article.cache.ArticleListCache;
+import com.codewarts.noriter.article.cache.ArticleListPage;
 import com.codewarts.noriter.article.domain.Article;
+import com.codewarts.noriter.article.domain.Tag;
 import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.domain.type.HashtagMatchType;
 import com.codewarts.noriter.article.dto.article.ArticleCreateRequest;
 import com.codewarts.noriter.article.dto.article.ArticleListResponse;
+import com.codewarts.noriter.article.dto.article.ArticleListRow;
+import com.codewarts.noriter.article.dto.article.ArticlePageResponse;
 import com.codewarts.noriter.article.dto.article.ArticleUpdateRequest;
 import com.codewarts.noriter.article.dto.playground.PlaygroundDetailResponse;
 import com.codewarts.noriter.article.dto.playground.PlaygroundListResponse;
+import com.codewarts.noriter.article.dto.search.ArticleSearchRow;
 import com.codewarts.noriter.article.repository.ArticleRepository;
+import com.codewarts.noriter.article.repository.HashtagRepository;
+import com.codewarts.noriter.article.search.ArticleSearchIndex;
+import com.codewarts.noriter.article.search.HashtagIndex;
+import com.codewarts.noriter.article.search.TrendingIndex;
+import com.codewarts.noriter.comment.service.CommentTreeAssembler;
 import com.codewarts.noriter.exception.GlobalNoriterException;
 import com.codewarts.noriter.exception.type.ArticleExceptionType;
-import com.codewarts.noriter.exception.type.MemberExceptionType;
+import com.codewarts.noriter.member.cache.MemberCache;
 import com.codewarts.noriter.member.domain.Member;
-import com.codewarts.noriter.member.repository.MemberRepository;
-import com.codewarts.noriter.wish.repository.WishRepository;
+import com.codewarts.noriter.wish.cache.MemberWishCache;
+import com.codewarts.noriter.wish.counter.WishCountBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -26,8 +43,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class PlaygroundService extends ArticleService {
 
     private final ArticleRepository articleRepository;
-    private final WishRepository wishRepository;
-    private final MemberRepository memberRepository;
+    private final HashtagRepository hashtagRepository;
+    private final ArticleListCache articleListCache;
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final HashtagIndex hashtagIndex;
+    private final TrendingIndex trendingIndex;
+    private final WishCountBuffer wishCountBuffer;
+    private final TagService tagService;
+    private final CommentTreeAssembler commentTreeAssembler;
+    private final MemberWishCache memberWishCache;
+    private final MemberCache memberCache;
 
 
     @Transactional
@@ -35,29 +61,53 @@ public class PlaygroundService extends ArticleService {
     public Long create(ArticleCreateRequest playgroundCreateRequest, Long writerId) {
         Member member = findMember(writerId);
         Article playground = playgroundCreateRequest.toEntity(member);
-        return articleRepository.save(playground).getId();
+        List<Tag> tags = tagService.findOrCreate(playgroundCreateRequest.getHashtags());
+        playground.addHashtags(tags);
+        Long id = articleRepository.save(playground).getId();
+        tagService.increaseUsage(ArticleType.PLAYGROUND, tags);
+        articleListCache.evict(ArticleType.PLAYGROUND);
+        articleSearchIndex.put(
+            ArticleSearchRow.from(playground, memberCache.getWriterInfo(writerId)));
+        hashtagIndex.put(playground);
+        return id;
     }
 
     @Override
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public PlaygroundDetailResponse findDetail(Long id, Long memberId) {
         Article article = findNotDeletedArticle(id);
+        PlaygroundDetailResponse detail = articleDetailCache.get(id,
+            article.getLastModifiedTime(), () -> new PlaygroundDetailResponse(article,
+                hashtagRepository.findContentsByArticleId(id), commentTreeAssembler.assemble(id),
+                false, false));
         Long writerId = article.getWriter().getId();
         boolean sameWriter = writerId.equals(memberId);
+        // 찜 수는 상세 캐시 대신 매번 읽는 게시글의 값에 아직 반영되지 않은 변화량을 더한다.
+        int wishCount = (int) (article.getWishCount() + wishCountBuffer.pendingDelta(id));
         if (memberId == null) {
-            return new PlaygroundDetailResponse(article, sameWriter, false);
+            return detail.withViewer(sameWriter, false, wishCount);
         }
-        Member member = findMember(writerId);
-        boolean wish = wishRepository.existsByArticleAndMember(article, member);
-        return new PlaygroundDetailResponse(article, sameWriter, wish);
+        boolean wish = memberWishCache.contains(memberId, id);
+        return detail.withViewer(sameWriter, wish, wishCount);
     }
 
     @Override
-    public List<ArticleListResponse> findList(Long memberId) {
-        return articleRepository.findAllByArticleType(ArticleType.PLAYGROUND).stream()
-            .map(article -> new PlaygroundListResponse(article,
-                isSameWriter(article, memberId),
-                isWished(article, memberId)
-            )).collect(Collectors.toList());
+    public ArticlePageResponse findList(Long cursor, int size, Long memberId) {
+        ArticleListPage page = articleListCache.get(ArticleType.PLAYGROUND, null, cursor, size,
+            () -> loadPage(articleRepository.findAllPlaygroundList(cursor, size + 1)));
+        return toPageResponse(page, size, memberId);
+    }
+
+    // 해시태그 필터는 색인에서 페이지에 해당하는 ID 만 골라 목록 행을 조회한다.
+    public ArticlePageResponse findList(List<String> hashtags,
+        HashtagMatchType matchType, Long cursor, int size, Long memberId) {
+        List<String> tagNames = tagService.findCanonicalNames(hashtags);
+        if (tagNames.isEmpty()) {
+            return findList(cursor, size, memberId);
+        }
+        ArticleListPage page = loadPage(
+            findRowsByHashtags(tagNames, matchType, cursor, size + 1));
+        return toPageResponse(page, size, memberId);
     }
 
     @Override
@@ -66,7 +116,14 @@ public class PlaygroundService extends ArticleService {
         findMember(writerId);
         Article playground = findNotDeletedArticle(id);
         playground.validateWriterOrThrow(writerId);
-        playground.update(request.getTitle(), request.getContent(), request.getHashtags());
+        List<Tag> tags = tagService.findOrCreate(request.getHashtags());
+        tagService.changeUsage(ArticleType.PLAYGROUND, playground.getTags(), tags);
+        playground.update(request.getTitle(), request.getContent(), tags);
+        articleListCache.evict(ArticleType.PLAYGROUND);
+        articleDetailCache.evict(id);
+        articleSearchIndex.put(
+            ArticleSearchRow.from(playground, memberCache.getWriterInfo(writerId)));
+        hashtagIndex.put(playground);
     }
 
     @Override
@@ -76,12 +133,18 @@ public class PlaygroundService extends ArticleService {
         Article playground = findNotDeletedArticle(id);
         playground.validateWriterOrThrow(writerId);
         playground.delete();
+        tagService.decreaseUsage(ArticleType.PLAYGROUND, playground.getTags());
+        articleListCache.evict(ArticleType.PLAYGROUND);
+        articleDetailCache.evict(id);
+        articleSearchIndex.remove(id);
+        hashtagIndex.remove(id);
+        trendingIndex.remove(id);
     }
 
+    // 회원 존재는 캐시로 확인하고, 작성자 외래 키에는 SELECT 없이 만든 프록시를 쓴다.
     @Override
     Member findMember(Long id) {
-        return memberRepository.findById(id).orElseThrow(() -> new GlobalNoriterException(
-            MemberExceptionType.MEMBER_NOT_FOUND));
+        return memberCache.getReference(id);
     }
 
     private Article findNotDeletedArticle(Long id) {
@@ -93,14 +156,51 @@ public class PlaygroundService extends ArticleService {
         return article;
     }
 
-    private boolean isSameWriter(Article article, Long memberId) {
-        if (memberId == null) return false;
-        return article.getWriter().getId().equals(memberId);
+    // 색인은 커밋 이후에 반영되므로 방금 삭제된 게시글이 남아 있을 수 있다.
+    // DB 에서 걸러져 모자란 만큼 마지막 ID 다음부터 색인을 다시 읽어 limit 개를 채운다.
+    private List<ArticleListRow> findRowsByHashtags(List<String> tagNames,
+        HashtagMatchType matchType, Long cursor, int limit) {
+        List<ArticleListRow> rows = new ArrayList<>(limit);
+        Long from = cursor;
+        while (rows.size() < limit) {
+            int missing = limit - rows.size();
+            List<Long> articleIds = hashtagIndex.findArticleIds(ArticleType.PLAYGROUND, null, tagNames,
+                matchType, from, missing, hashtagRepository::findArticleIdsByTagName);
+            rows.addAll(articleRepository.findListRowsByIds(articleIds));
+            if (articleIds.size() < missing) {
+                break;
+            }
+            from = articleIds.get(articleIds.size() - 1);
+        }
+        return rows;
     }
 
-    private boolean isWished(Article article, Long memberId) {
+    private ArticleListPage loadPage(List<ArticleListRow> rows) {
+        List<Long> articleIds = rows.stream()
+            .map(ArticleListRow::getId)
+            .collect(Collectors.toList());
+        return ArticleListPage.of(rows, hashtagRepository.findContentsByArticleIds(articleIds));
+    }
+
+    private ArticlePageResponse toPageResponse(ArticleListPage page, int size, Long memberId) {
+        Set<Long> wishedArticleIds = findWishedArticleIds(page.getArticleIds(), memberId);
+
+        List<ArticleListResponse> responses = page.getRows().stream()
+            .map(row -> new PlaygroundListResponse(row,
+                page.getHashtags(row.getId()),
+                isSameWriter(row, memberId),
+                wishedArticleIds.contains(row.getId())))
+            .collect(Collectors.toList());
+        return ArticlePageResponse.of(responses, size);
+    }
+
+    private boolean isSameWriter(ArticleListRow row, Long memberId) {
         if (memberId == null) return false;
-        Member member = findMember(memberId);
-        return wishRepository.existsByArticleAndMember(article, member);
+        return row.getWriterId().equals(memberId);
+    }
+
+    private Set<Long> findWishedArticleIds(List<Long> articleIds, Long memberId) {
+        if (memberId == null || articleIds.isEmpty()) return Collections.emptySet();
+        return memberWishCache.findWishedArticleIds(memberId, articleIds);
     }
 }
@@ -0,0 +1,48 @@
+package com.codewarts.noriter.article.service;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.dto.hashtag.PopularHashtagResponse;
+import com.codewarts.noriter.article.repository.TagUsageRepository;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PopularHashtagService {
+
+    // 게시판별로 미리 계산해 두는 인기 해시태그 수. 요청 크기는 이 안에서 잘라 준다.
+    private static final int TOP_K = 50;
+
+    private final TagUsageRepository tagUsageRepository;
+
+    private volatile Map<ArticleType, List<PopularHashtagResponse>> popularHashtags =
+        new EnumMap<>(ArticleType.class);
+
+    public List<PopularHashtagResponse> findPopular(ArticleType articleType, int size) {
+        List<PopularHashtagResponse> popular = popularHashtags.getOrDefault(articleType,
+            List.of());
+        return popular.subList(0, Math.min(size, popular.size()));
+    }
+
+    // 조회 요청마다 집계하지 않고 카운터 테이블의 상위 K 개를 주기적으로 읽어 교체한다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${article.popular-hashtag.refresh-delay:60000}")
+    public void refresh() {
+        Map<ArticleType, List<PopularHashtagResponse>> refreshed = new EnumMap<>(
+            ArticleType.class);
+        for (ArticleType articleType : ArticleType.values()) {
+            refreshed.put(articleType, List.copyOf(
+                tagUsageRepository.findPopular(articleType, PageRequest.of(0, TOP_K))));
+        }
+        popularHashtags = refreshed;
+    }
+}
@@ -0,0 +1,125 @@
+package com.codewarts.noriter.article.service;
+
+import com.codewarts.noriter.article.domain.Tag;
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.repository.TagRepository;
+import com.codewarts.noriter.article.repository.TagUsageRepository;
+import com.codewarts.noriter.article.search.HashtagSuggestIndex;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class TagService {
+
+    private final TagRepository tagRepository;
+    private final TagUsageRepository tagUsageRepository;
+    private final HashtagSuggestIndex hashtagSuggestIndex;
+
+    // 요청 순서대로 해시태그 사전 행을 돌려준다. 없는 이름은 유니크 키 충돌을 무시하는 INSERT 로 만들고
+    // 잠금 읽기로 다시 조회하므로, 같은 해시태그를 동시에 만들어도 사전에는 한 행만 남는다.
+    // 없는 이름은 정렬해 INSERT 한다. 트랜잭션마다 같은 순서로 잠가야 서로 기다리다 교착되지 않는다.
+    public List<Tag> findOrCreate(List<String> names) {
+        Set<String> distinctNames = normalize(names);
+        if (distinctNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // MySQL 기본 콜레이션은 대소문자를 구분하지 않으므로 이름 비교도 같은 기준으로 한다.
+        Map<String, Tag> tags = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        tagRepository.findAllByNameIn(distinctNames).forEach(tag -> tags.put(tag.getName(), tag));
+        List<String> missing = distinctNames.stream()
+            .filter(name -> !tags.containsKey(name))
+            .sorted(String.CASE_INSENSITIVE_ORDER)
+            .collect(Collectors.toList());
+        for (String name : missing) {
+            tagRepository.insertIfAbsent(name);
+            tagRepository.findLockedByName(name).ifPresent(tag -> tags.put(tag.getName(), tag));
+        }
+
+        return distinctNames.stream()
+            .map(tags::get)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    // 목록 필터의 해시태그를 사전에 저장된 이름으로 바꾼다. 색인은 사전 이름을 키로 쓰므로
+    // 요청 값을 그대로 찾으면 앞뒤 공백이나 대소문자만 다른 해시태그를 놓친다. 사전에 없는 이름은 그대로 둔다.
+    @Transactional(readOnly = true)
+    public List<String> findCanonicalNames(List<String> names) {
+        Set<String> distinctNames = normalize(names);
+        if (distinctNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, String> canonicalNames = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        tagRepository.findAllByNameIn(distinctNames)
+            .forEach(tag -> canonicalNames.put(tag.getName(), tag.getName()));
+        return distinctNames.stream()
+            .map(name -> canonicalNames.getOrDefault(name, name))
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    // 카운터 행도 해시태그 ID 순으로 잠근다.
+    public void increaseUsage(ArticleType articleType, Collection<Tag> tags) {
+        List<Tag> sortedTags = tags.stream()
+            .sorted(Comparator.comparing(Tag::getId))
+            .collect(Collectors.toList());
+        for (Tag tag : sortedTags) {
+            tagUsageRepository.increaseArticleCount(tag.getId(), articleType.name());
+            hashtagSuggestIndex.increase(tag.getName());
+        }
+    }
+
+    public void decreaseUsage(ArticleType articleType, Collection<Tag> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        List<Long> tagIds = tags.stream()
+            .map(Tag::getId)
+            .collect(Collectors.toList());
+        tagUsageRepository.decreaseArticleCount(tagIds, articleType.name());
+        tags.forEach(tag -> hashtagSuggestIndex.decrease(tag.getName()));
+    }
+
+    // 수정 전후에 달라진 해시태그의 카운터만 조정한다.
+    public void changeUsage(ArticleType articleType, Collection<Tag> before,
+        Collection<Tag> after) {
+        Set<Long> beforeIds = before.stream().map(Tag::getId).collect(Collectors.toSet());
+        Set<Long> afterIds = after.stream().map(Tag::getId).collect(Collectors.toSet());
+        decreaseUsage(articleType, before.stream()
+            .filter(tag -> !afterIds.contains(tag.getId()))
+            .collect(Collectors.toList()));
+        increaseUsage(articleType, after.stream()
+            .filter(tag -> !beforeIds.contains(tag.getId()))
+            .collect(Collectors.toList()));
+    }
+
+    private Set<String> normalize(List<String> names) {
+        Set<String> distinctNames = new LinkedHashSet<>();
+        if (ObjectUtils.isEmpty(names)) {
+            return distinctNames;
+        }
+        for (String name : names) {
+            if (name != null && !name.isBlank()) {
+                distinctNames.add(name.trim());
+            }
+        }
+        return distinctNames;
+    }
+}
@@ -0,0 +1,54 @@
+package com.codewarts.noriter.article.service;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.dto.search.ArticleSearchRow;
+import com.codewarts.noriter.article.dto.trending.TrendingArticleResponse;
+import com.codewarts.noriter.article.repository.ArticleRepository;
+import com.codewarts.noriter.article.search.ArticleSearchIndex;
+import com.codewarts.noriter.article.search.TrendingIndex;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    private final ArticleRepository articleRepository;
+    private final TrendingIndex trendingIndex;
+    private final ArticleSearchIndex articleSearchIndex;
+
+    // 순위와 게시글 내용 모두 메모리 색인에서 읽는다.
+    // 순위에 남은 게시글이 색인에서 빠져(삭제 등) 걸러지면, 페이지가 찰 때까지 순위를 더 읽는다.
+    public List<TrendingArticleResponse> findTrending(ArticleType articleType, int size) {
+        int limit = size;
+        while (true) {
+            List<Long> articleIds = trendingIndex.findTop(articleType, limit);
+            List<ArticleSearchRow> rows = articleSearchIndex.findRows(articleIds);
+            if (rows.size() >= size || articleIds.size() < limit) {
+                return rows.stream()
+                    .limit(size)
+                    .map(TrendingArticleResponse::new)
+                    .collect(Collectors.toList());
+            }
+            limit += size;
+        }
+    }
+
+    // 순위는 메모리에만 있으므로 기동 시 DB 의 최근 찜, 댓글로 감쇠 점수를 다시 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try (TrendingIndex.Rebuild rebuild = trendingIndex.startRebuild()) {
+            articleRepository.findWishEvents(rebuild.getSince(), rebuild.getUntil(),
+                event -> rebuild.recordWish(event.getArticleId(), event.getArticleType(),
+                    event.getCreatedTime()));
+            articleRepository.findCommentEvents(rebuild.getSince(), rebuild.getUntil(),
+                event -> rebuild.recordComment(event.getArticleId(), event.getArticleType(),
+                    event.getCreatedTime()));
+            rebuild.complete();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.codewarts.noriter.auth.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+// 발급한 리프레시 토큰. 토큰 원문 대신 SHA-256 해시만 저장해, 저장소가 유출돼도 토큰을 쓸 수 없다.
+// 회원 행과 분리해 로그인마다 목록 조회가 조인하는 member 테이블을 수정하지 않는다.
+@Entity
+@Getter
+@Table(indexes = {
+    @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken implements Persistable<String> {
+
+    @Id
+    @Column(length = 43)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public RefreshToken(String token, Long memberId, LocalDateTime expiresAt) {
+        this.tokenHash = hash(token);
+        this.memberId = memberId;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getId() {
+        return tokenHash;
+    }
+
+    // 토큰은 발급 후 바뀌지 않으므로 저장은 항상 INSERT 다. 키를 직접 정해도 merge 의 SELECT 를 거치지 않는다.
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public static String hash(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
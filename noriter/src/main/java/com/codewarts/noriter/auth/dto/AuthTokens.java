@@ -0,0 +1,12 @@
+package com.codewarts.noriter.auth.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AuthTokens {
+
+    private final String accessToken;
+    private final String refreshToken;
+}
@@ -0,0 +1,12 @@
+package com.codewarts.noriter.auth.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class LoginResult {
+
+    private final AuthTokens tokens;
+    private final String profileImageUrl;
+}
@@ -6,28 +6,48 @@ import static javax.management.timer.Timer.ONE_HOUR;
 import static javax.management.timer.Timer.ONE_WEEK;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtProvider {
 
+    public static final Duration REFRESH_TOKEN_VALIDITY = Duration.ofMillis(ONE_WEEK);
+
     private final String issuer;
     private final Algorithm algorithm;
+    // JWTVerifier 는 상태가 없어 여러 스레드가 함께 써도 된다. 요청마다 만들지 않는다.
+    private final JWTVerifier accessTokenVerifier;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JwtProvider(JwtProperties jwtProperties) {
+    public JwtProvider(JwtProperties jwtProperties, VerifiedTokenCache verifiedTokenCache) {
         this.issuer = jwtProperties.getIssuer();
         this.algorithm = Algorithm.HMAC256(jwtProperties.getSecretKey());
+        this.accessTokenVerifier = JWT.require(algorithm)
+            .withIssuer(issuer)
+            .withSubject(ACCESS_TOKEN)
+            .build();
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     public String issueAccessToken(Long memberId) {
-        return issueToken(ACCESS_TOKEN, memberId, Date.from(Instant.now().plusMillis(ONE_HOUR)));
+        return tokenBuilder(ACCESS_TOKEN, memberId, Date.from(Instant.now().plusMillis(ONE_HOUR)))
+            .sign(algorithm);
     }
 
+    // 저장소에서 토큰 해시로 찾으므로, 같은 초에 발급해도 토큰이 겹치지 않도록 jti 를 넣는다.
     public String issueRefreshToken(Long memberId) {
-        return issueToken(REFRESH_TOKEN, memberId, Date.from(Instant.now().plusMillis(ONE_WEEK)));
+        return tokenBuilder(REFRESH_TOKEN, memberId,
+            Date.from(Instant.now().plus(REFRESH_TOKEN_VALIDITY)))
+            .withJWTId(UUID.randomUUID().toString())
+            .sign(algorithm);
     }
 
     public Long decode(String token) {
@@ -36,15 +56,20 @@ public class JwtProvider {
             .asLong();
     }
 
-    public void verifyToken(String token) {
-        JWT.require(algorithm)
-            .withIssuer(issuer)
-            .withSubject(ACCESS_TOKEN)
-            .build()
-            .verify(token);
+    // 액세스 토큰을 검증하고 회원 ID 를 반환한다. 토큰은 한 번만 파싱한다.
+    // 같은 토큰이 만료 전에 다시 오면 서명 검증 없이 캐시된 회원 ID 를 반환한다.
+    public Long verifyToken(String token) {
+        Long cachedMemberId = verifiedTokenCache.get(token);
+        if (cachedMemberId != null) {
+            return cachedMemberId;
+        }
+        DecodedJWT verified = accessTokenVerifier.verify(token);
+        Long memberId = verified.getClaim("memberId").asLong();
+        verifiedTokenCache.put(token, memberId, verified.getExpiresAt());
+        return memberId;
     }
 
-    private String issueToken(String subject, Long memberId, Date expiresAt) {
+    private JWTCreator.Builder tokenBuilder(String subject, Long memberId, Date expiresAt) {
         return JWT.create()
             .withIssuer(issuer)
             .withSubject(subject)
@@ -52,8 +77,6 @@ public class JwtProvider {
             .withIssuedAt(Date.from(Instant.now()))
             .withExpiresAt(expiresAt)
 
-            .withClaim("memberId", memberId)
-
-            .sign(algorithm);
+            .withClaim("memberId", memberId);
     }
 }
@@ -0,0 +1,91 @@
+package com.codewarts.noriter.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 서명 검증을 통과한 액세스 토큰의 회원 ID 를 토큰 만료 시각까지 들고 있는 캐시.
+// 토큰 원문 대신 SHA-256 다이제스트를 키로 써서 메모리에 토큰을 남기지 않는다.
+@Component
+public class VerifiedTokenCache {
+
+    private static final int MAXIMUM_SIZE = 100_000;
+    private static final String CACHE_NAME = "auth.verified-token";
+
+    private final Cache<ByteBuffer, VerifiedToken> cache = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .expireAfter(new UntilTokenExpires())
+        .recordStats()
+        .build();
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Long get(String token) {
+        VerifiedToken verified = cache.getIfPresent(digest(token));
+        if (verified == null || !verified.expiresAt.isAfter(Instant.now())) {
+            return null;
+        }
+        return verified.memberId;
+    }
+
+    // 만료 시각이 없는 토큰은 언제까지 유효한지 알 수 없으므로 캐시하지 않는다.
+    public void put(String token, Long memberId, Date expiresAt) {
+        if (expiresAt == null) {
+            return;
+        }
+        cache.put(digest(token), new VerifiedToken(memberId, expiresAt.toInstant()));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private ByteBuffer digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class VerifiedToken {
+
+        private final Long memberId;
+        private final Instant expiresAt;
+    }
+
+    private static class UntilTokenExpires implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            return Math.max(Duration.between(Instant.now(), value.expiresAt).toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -32,8 +32,6 @@ public class MockOAuthController {
         String accessToken = String.valueOf(mockLoginMember.getId());
         String refreshToken = String.valueOf(mockLoginMember.getId());
 
-        loginService.updateRefreshToken(refreshToken, mockLoginMember.getId());
-
         response.setHeader(ACCESS_TOKEN, accessToken);
         response.setHeader(REFRESH_TOKEN, refreshToken);
 
@@ -43,15 +41,14 @@ public class MockOAuthController {
     @PostMapping("mock/logout")
     public void logout(HttpServletRequest request) {
         String refreshToken = request.getHeader(REFRESH_TOKEN);
-        long mockMemberId = Long.parseLong(refreshToken);
 
-        loginService.deleteRefreshToken(mockMemberId);
+        loginService.logout(refreshToken);
     }
 
     private Member requestUserInfo() {
         String mockEmail = UUID.randomUUID().toString();
         return new Member(ResourceServer.GITHUB, resourceServerId++, "mockNickname", mockEmail,
-            "mockProfileImageUrl", "mockRefreshToken");
+            "mockProfileImageUrl");
     }
 
 }
@@ -3,8 +3,8 @@ package com.codewarts.noriter.auth.oauth.controller;
 import static com.codewarts.noriter.auth.utils.OAuthUtils.ACCESS_TOKEN;
 import static com.codewarts.noriter.auth.utils.OAuthUtils.REFRESH_TOKEN;
 
-import com.codewarts.noriter.auth.jwt.JwtProvider;
-import com.codewarts.noriter.auth.oauth.dto.OAuthAccessToken;
+import com.codewarts.noriter.auth.dto.AuthTokens;
+import com.codewarts.noriter.auth.dto.LoginResult;
 import com.codewarts.noriter.auth.oauth.properties.OAuthPropertiesMapper;
 import com.codewarts.noriter.auth.oauth.service.OAuthService;
 import com.codewarts.noriter.auth.service.LoginService;
@@ -17,11 +17,14 @@ import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @RequiredArgsConstructor
 @RestController
@@ -30,7 +33,6 @@ public class OAuthController {
     private final OAuthPropertiesMapper mapper;
     private final Map<String, OAuthService> oauthServiceMap;
     private final LoginService loginService;
-    private final JwtProvider jwtProvider;
 
     @GetMapping("/{resource-server}/login/form")
     public void redirectLoginForm(HttpServletResponse response,
@@ -42,9 +44,11 @@ public class OAuthController {
         response.sendRedirect(loginFormUrl);
     }
 
+    // Resource Server 호출을 기다리는 동안 요청 스레드를 반납하도록 Mono 를 반환한다.
     @PostMapping("/{resource-server}/login")
-    public Map<String, String> login(@PathVariable(name = "resource-server") String resourceServer,
-        @RequestBody Map<String, String> map, HttpServletResponse response) {
+    public Mono<ResponseEntity<Map<String, String>>> login(
+        @PathVariable(name = "resource-server") String resourceServer,
+        @RequestBody Map<String, String> map) {
 
         OAuthService oAuthService = oauthServiceMap.get(resourceServer);
 
@@ -53,34 +57,36 @@ public class OAuthController {
             throw new GlobalNoriterException(AuthExceptionType.EMPTY_AUTHORIZATION_CODE);
         }
 
-        OAuthAccessToken oAuthAccessToken = oAuthService.requestAccessToken(code);
-
-        Member oauthUser = oAuthService.reqeustUserInfo(oAuthAccessToken);
-        Member loginMember = loginService.login(oauthUser);
+        return oAuthService.requestAccessToken(code)
+            .flatMap(oAuthService::reqeustUserInfo)
+            // 회원 저장은 JDBC 로 블로킹되므로 Netty 이벤트 루프가 아닌 스레드에서 실행한다.
+            .publishOn(Schedulers.boundedElastic())
+            .map(this::login);
+    }
 
-        String jwtAccessToken = jwtProvider.issueAccessToken(loginMember.getId());
-        String jwtRefreshToken = jwtProvider.issueRefreshToken(loginMember.getId());
-        loginService.updateRefreshToken(jwtRefreshToken, loginMember.getId());
+    private ResponseEntity<Map<String, String>> login(Member oauthUser) {
+        LoginResult loginResult = loginService.login(oauthUser);
+        AuthTokens tokens = loginResult.getTokens();
 
-        response.setHeader(ACCESS_TOKEN, jwtAccessToken);
-        response.setHeader(REFRESH_TOKEN, jwtRefreshToken);
-        return Collections.singletonMap("profileImageUrl", loginMember.getProfileImageUrl());
+        return ResponseEntity.ok()
+            .header(ACCESS_TOKEN, tokens.getAccessToken())
+            .header(REFRESH_TOKEN, tokens.getRefreshToken())
+            .body(Collections.singletonMap("profileImageUrl", loginResult.getProfileImageUrl()));
     }
 
+    // 리프레시 토큰도 새로 발급하므로 두 토큰을 모두 응답한다.
     @GetMapping("reissue/access-token")
     public void reissue(HttpServletRequest request, HttpServletResponse response) {
         String refreshToken = request.getHeader(REFRESH_TOKEN);
-        Long decodedMemberId = jwtProvider.decode(refreshToken);
-        String reissuedAccessToken = jwtProvider.issueAccessToken(decodedMemberId);
+        AuthTokens tokens = loginService.reissue(refreshToken);
 
-        response.setHeader(ACCESS_TOKEN, reissuedAccessToken);
+        response.setHeader(ACCESS_TOKEN, tokens.getAccessToken());
+        response.setHeader(REFRESH_TOKEN, tokens.getRefreshToken());
     }
 
     @PostMapping("/logout")
     public void logout(HttpServletRequest request) {
         String refreshToken = request.getHeader(REFRESH_TOKEN);
-        Long decodedMemberId = jwtProvider.decode(refreshToken);
-
-        loginService.deleteRefreshToken(decodedMemberId);
+        loginService.logout(refreshToken);
     }
 }
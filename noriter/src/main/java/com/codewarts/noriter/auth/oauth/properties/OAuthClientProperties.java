@@ -0,0 +1,37 @@
+package com.codewarts.noriter.auth.oauth.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// OAuth 서버 호출용 WebClient 의 커넥션 풀과 타임아웃 설정
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "oauth.client")
+public class OAuthClientProperties {
+
+    private final int maxConnections;
+    // 커넥션을 기다리는 요청 수. 넘치면 기다리지 않고 바로 실패시킨다.
+    private final int pendingAcquireMaxCount;
+    private final Duration pendingAcquireTimeout;
+    private final Duration connectTimeout;
+    // 호출 한 번의 응답 본문까지 받는 시간
+    private final Duration responseTimeout;
+    private final Duration maxIdleTime;
+
+    public OAuthClientProperties(@DefaultValue("50") int maxConnections,
+        @DefaultValue("200") int pendingAcquireMaxCount,
+        @DefaultValue("1s") Duration pendingAcquireTimeout,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("3s") Duration responseTimeout,
+        @DefaultValue("30s") Duration maxIdleTime) {
+        this.maxConnections = maxConnections;
+        this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        this.pendingAcquireTimeout = pendingAcquireTimeout;
+        this.connectTimeout = connectTimeout;
+        this.responseTimeout = responseTimeout;
+        this.maxIdleTime = maxIdleTime;
+    }
+}
@@ -4,30 +4,46 @@ import com.codewarts.noriter.auth.oauth.dto.GithubAccessTokenRequest;
 import com.codewarts.noriter.auth.oauth.dto.GithubAccessTokenResponse;
 import com.codewarts.noriter.auth.oauth.dto.GithubUserInfo;
 import com.codewarts.noriter.auth.oauth.dto.OAuthAccessToken;
+import com.codewarts.noriter.auth.oauth.properties.OAuthClientProperties;
 import com.codewarts.noriter.auth.oauth.properties.OAuthProperties;
 import com.codewarts.noriter.auth.oauth.properties.OAuthPropertiesMapper;
 import com.codewarts.noriter.member.domain.Member;
 import com.codewarts.noriter.exception.GlobalNoriterException;
 import com.codewarts.noriter.exception.type.AuthExceptionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+@Slf4j
 @Service("github")
 public class GithubOAuthService implements OAuthService {
 
+    private static final String TIMER_NAME = "oauth.request";
+    private static final String VENDOR = "github";
+
     private final WebClient webClient;
     private final OAuthProperties oauthProperties;
+    private final Duration responseTimeout;
+    private final MeterRegistry meterRegistry;
 
-    public GithubOAuthService(WebClient webClient, OAuthPropertiesMapper oauthPropertiesMapper) {
+    public GithubOAuthService(WebClient webClient, OAuthPropertiesMapper oauthPropertiesMapper,
+        OAuthClientProperties oauthClientProperties, MeterRegistry meterRegistry) {
         this.webClient = webClient;
-        this.oauthProperties = oauthPropertiesMapper.getOAuthProperties("github");
+        this.oauthProperties = oauthPropertiesMapper.getOAuthProperties(VENDOR);
+        this.responseTimeout = oauthClientProperties.getResponseTimeout();
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
-    public OAuthAccessToken requestAccessToken(String code) {
-        GithubAccessTokenResponse githubAccessTokenResponse = webClient
+    public Mono<OAuthAccessToken> requestAccessToken(String code) {
+        Mono<GithubAccessTokenResponse> response = webClient
             .post()
             .uri(oauthProperties.getAccessTokenApiUrl())
             .accept(MediaType.APPLICATION_JSON)
@@ -38,27 +54,50 @@ public class GithubOAuthService implements OAuthService {
                 )
             )
             .retrieve()
-            .bodyToMono(GithubAccessTokenResponse.class)
-            .block();
-
-        if (githubAccessTokenResponse.getAccessToken() == null) {
-            throw new GlobalNoriterException(AuthExceptionType.INVALID_AUTHORIZATION_CODE);
-        }
+            .bodyToMono(GithubAccessTokenResponse.class);
 
-        return githubAccessTokenResponse.toOAuthAccessToken();
+        return call("access_token", response)
+            .map(githubAccessTokenResponse -> {
+                if (githubAccessTokenResponse.getAccessToken() == null) {
+                    throw new GlobalNoriterException(AuthExceptionType.INVALID_AUTHORIZATION_CODE);
+                }
+                return githubAccessTokenResponse.toOAuthAccessToken();
+            });
     }
 
     @Override
-    public Member reqeustUserInfo(OAuthAccessToken oauthAccessToken) {
-        GithubUserInfo githubUserInfo = webClient
+    public Mono<Member> reqeustUserInfo(OAuthAccessToken oauthAccessToken) {
+        Mono<GithubUserInfo> response = webClient
             .get()
             .uri(oauthProperties.getUserInfoApiUrl())
             .accept(MediaType.APPLICATION_JSON)
             .header(HttpHeaders.AUTHORIZATION, oauthAccessToken.getAuthorizationValue())
             .retrieve()
-            .bodyToMono(GithubUserInfo.class)
-            .block();
+            .bodyToMono(GithubUserInfo.class);
+
+        return call("user_info", response)
+            .map(GithubUserInfo::toMember);
+    }
 
-        return githubUserInfo.toMember();
+    // 호출마다 타임아웃을 걸고 소요 시간을 결과별로 기록한다.
+    // 커넥션 풀 대기 초과나 연결 실패도 여기서 Resource Server 오류로 바꾼다.
+    private <T> Mono<T> call(String callName, Mono<T> response) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return response
+                .timeout(responseTimeout)
+                .doFinally(signal -> sample.stop(Timer.builder(TIMER_NAME)
+                    .tag("vendor", VENDOR)
+                    .tag("call", callName)
+                    .tag("outcome", signal.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)));
+        }).onErrorMap(e -> !(e instanceof GlobalNoriterException), e -> {
+            log.warn("GitHub {} 요청 실패", callName, e);
+            if (e instanceof TimeoutException) {
+                return new GlobalNoriterException(AuthExceptionType.RESOURCE_SERVER_TIMEOUT);
+            }
+            return new GlobalNoriterException(AuthExceptionType.RESOURCE_SERVER_ERROR);
+        });
     }
 }
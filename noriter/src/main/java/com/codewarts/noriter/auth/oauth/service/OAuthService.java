@@ -2,10 +2,12 @@ package com.codewarts.noriter.auth.oauth.service;
 
 import com.codewarts.noriter.auth.oauth.dto.OAuthAccessToken;
 import com.codewarts.noriter.member.domain.Member;
+import reactor.core.publisher.Mono;
 
+// Resource Server 호출은 요청 스레드를 붙잡지 않도록 Mono 로 돌려준다.
 public interface OAuthService {
 
-    OAuthAccessToken requestAccessToken(String code);
+    Mono<OAuthAccessToken> requestAccessToken(String code);
 
-    Member reqeustUserInfo(OAuthAccessToken oauthAccessToken);
+    Mono<Member> reqeustUserInfo(OAuthAccessToken oauthAccessToken);
 }
@@ -0,0 +1,119 @@
+package com.codewarts.noriter.auth.oauth.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Map;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+// GitHub OAuth 의 access token, 사용자 정보 API 를 흉내 내는 내장 서버.
+// 외부 네트워크 없이 실제 로그인 경로 전체를 부하 테스트할 수 있도록 performance 프로필에서 켠다.
+// 앱의 Tomcat 스레드를 쓰지 않도록 별도 포트의 Netty 서버로 띄운다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "oauth.stub.enabled", havingValue = "true")
+public class StubOAuthServer {
+
+    private static final String TOKEN_PREFIX = "stub-";
+
+    private final ObjectMapper objectMapper;
+    private final int port;
+    // GitHub 응답 지연을 흉내 낸다. 지연 중에도 스레드를 점유하지 않는다.
+    private final Duration latency;
+    private DisposableServer server;
+
+    public StubOAuthServer(ObjectMapper objectMapper,
+        @Value("${oauth.stub.port:18089}") int port,
+        @Value("${oauth.stub.latency:50ms}") Duration latency) {
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.latency = latency;
+    }
+
+    @PostConstruct
+    public void start() {
+        server = HttpServer.create()
+            .host("127.0.0.1")
+            .port(port)
+            .route(routes -> routes
+                .post("/login/oauth/access_token", this::accessToken)
+                .get("/user", this::userInfo))
+            .bindNow();
+        log.info("Stub OAuth 서버 시작: {}", server.port());
+    }
+
+    @PreDestroy
+    public void stop() {
+        server.disposeNow();
+    }
+
+    // 어떤 code 든 받아 주고, code 가 같으면 같은 사용자로 로그인되도록 토큰에 code 를 담는다.
+    private Publisher<Void> accessToken(HttpServerRequest request, HttpServerResponse response) {
+        Mono<String> body = request.receive().aggregate().asString()
+            .map(this::readCode)
+            .map(code -> toJson(Map.of(
+                "access_token", TOKEN_PREFIX + code,
+                "token_type", "bearer",
+                "scope", "")));
+        return json(response, body);
+    }
+
+    private Publisher<Void> userInfo(HttpServerRequest request, HttpServerResponse response) {
+        String authorization = request.requestHeaders().get(HttpHeaders.AUTHORIZATION, "");
+        int tokenStart = authorization.indexOf(TOKEN_PREFIX);
+        if (tokenStart < 0) {
+            return response.status(HttpStatus.UNAUTHORIZED.value()).send();
+        }
+        long id = userId(authorization.substring(tokenStart + TOKEN_PREFIX.length()));
+        return json(response, Mono.just(toJson(Map.of(
+            "id", id,
+            "login", "stub-user-" + id,
+            "email", "stub-user-" + id + "@noriter.test",
+            "avatar_url", "https://avatars.githubusercontent.com/u/" + id))));
+    }
+
+    private Publisher<Void> json(HttpServerResponse response, Mono<String> body) {
+        return response
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .sendString(Mono.delay(latency).then(body));
+    }
+
+    private String readCode(String body) {
+        try {
+            return objectMapper.readTree(body).path("code").asText();
+        } catch (JsonProcessingException e) {
+            return "";
+        }
+    }
+
+    // 숫자 code 는 그대로 사용자 id 로 써서 부하 테스트에서 사용자 수를 정할 수 있게 한다.
+    private long userId(String code) {
+        try {
+            return Long.parseLong(code);
+        } catch (NumberFormatException e) {
+            return Integer.toUnsignedLong(code.hashCode());
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.codewarts.noriter.auth.repository;
+
+import com.codewarts.noriter.auth.domain.RefreshToken;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // 지운 행 수로 같은 토큰의 동시 재발급 중 하나만 성공시킨다.
+    @Modifying(clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -50,13 +50,12 @@ public class AuthVerificationArgumentResolver implements HandlerMethodArgumentRe
             throw new GlobalNoriterException(AuthExceptionType.EMPTY_ACCESS_TOKEN);
         }
         try {
-            jwtProvider.verifyToken(accessToken);
+            return jwtProvider.verifyToken(accessToken);
         } catch (TokenExpiredException expiredException) {
             throw new GlobalNoriterException(AuthExceptionType.EXPIRED_ACCESS_TOKEN);
         } catch (JWTVerificationException verificationException) {
             throw new GlobalNoriterException(AuthExceptionType.TAMPERED_ACCESS_TOKEN);
         }
-        return jwtProvider.decode(accessToken);
     }
 
     private String parseAuthorizationHeader(NativeWebRequest webRequest) {
@@ -1,32 +1,23 @@
 package com.codewarts.noriter.auth.resolver;
 
-import com.codewarts.noriter.auth.LoginCheck;
 import com.codewarts.noriter.auth.jwt.JwtProvider;
-import com.codewarts.noriter.exception.GlobalNoriterException;
-import com.codewarts.noriter.exception.type.AuthExceptionType;
 import java.util.Objects;
 import javax.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.MethodParameter;
-import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
-import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+// 목 로그인이 발급한 회원 id 토큰은 그대로 회원 id 로 쓰고,
+// Stub OAuth 서버로 로그인해 받은 JWT 는 실제 로그인처럼 검증한다.
 @Component
-@RequiredArgsConstructor
 @Profile("performance")
-public class MockAuthVerificationArgumentResolver implements HandlerMethodArgumentResolver {
+public class MockAuthVerificationArgumentResolver extends AuthVerificationArgumentResolver {
 
-    private final JwtProvider jwtProvider;
-
-    @Override
-    public boolean supportsParameter(MethodParameter parameter) {
-        return parameter.hasParameterAnnotation(LoginCheck.class);
+    public MockAuthVerificationArgumentResolver(JwtProvider jwtProvider) {
+        super(jwtProvider);
     }
 
     @Override
@@ -34,25 +25,19 @@ public class MockAuthVerificationArgumentResolver implements HandlerMethodArgume
         NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
 
         String accessToken = parseAuthorizationHeader(webRequest);
-        String method = parseHttpMethod(webRequest);
-        boolean hasAccessToken = StringUtils.hasText(accessToken);
-
-        if (!hasAccessToken && method.equals(HttpMethod.GET.name())) {
-            return null;
+        if (isMemberId(accessToken)) {
+            return Long.parseLong(accessToken);
         }
-        if (!hasAccessToken) {
-            throw new GlobalNoriterException(AuthExceptionType.EMPTY_ACCESS_TOKEN);
-        }
-        return Long.parseLong(accessToken);
+        return super.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
     }
 
-    private String parseAuthorizationHeader(NativeWebRequest webRequest) {
-        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
-        return Objects.requireNonNull(request).getHeader("Authorization");
+    private boolean isMemberId(String accessToken) {
+        return accessToken != null && !accessToken.isEmpty()
+            && accessToken.chars().allMatch(Character::isDigit);
     }
 
-    private String parseHttpMethod(NativeWebRequest webRequest) {
+    private String parseAuthorizationHeader(NativeWebRequest webRequest) {
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
-        return Objects.requireNonNull(request).getMethod();
+        return Objects.requireNonNull(request).getHeader("Authorization");
     }
 }
@@ -1,11 +1,20 @@
 package com.codewarts.noriter.auth.service;
 
+import com.codewarts.noriter.auth.domain.RefreshToken;
+import com.codewarts.noriter.auth.dto.AuthTokens;
+import com.codewarts.noriter.auth.dto.LoginResult;
+import com.codewarts.noriter.auth.jwt.JwtProvider;
+import com.codewarts.noriter.auth.repository.RefreshTokenRepository;
+import com.codewarts.noriter.exception.GlobalNoriterException;
+import com.codewarts.noriter.exception.type.AuthExceptionType;
 import com.codewarts.noriter.member.repository.MemberRepository;
 import com.codewarts.noriter.member.domain.Member;
-import java.util.Optional;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -13,32 +22,66 @@ import org.springframework.transaction.annotation.Transactional;
 public class LoginService {
 
     private final MemberRepository memberRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProvider jwtProvider;
 
+    // 회원 조회/가입과 리프레시 토큰 저장을 한 트랜잭션에서 처리한다.
+    // 이미 가입한 회원이면 member 행은 읽기만 한다.
     @Transactional
-    public Member login(Member oauthUser) {
-        Optional<Member> optionalMember = memberRepository.findByResourceServerAndResourceServerId(
-            oauthUser.getResourceServer(),
-            oauthUser.getResourceServerId());
-
-        if (optionalMember.isEmpty()) {
-            memberRepository.save(oauthUser);
-            return oauthUser;
+    public LoginResult login(Member oauthUser) {
+        Member loginMember = memberRepository.findByResourceServerAndResourceServerId(
+                oauthUser.getResourceServer(),
+                oauthUser.getResourceServerId())
+            .orElseGet(() -> memberRepository.save(oauthUser));
+
+        return new LoginResult(issueTokens(loginMember.getId()),
+            loginMember.getProfileImageUrl());
+    }
+
+    // 리프레시 토큰은 한 번만 쓸 수 있다. 쓴 토큰은 지우고 새 토큰을 발급한다.
+    @Transactional
+    public AuthTokens reissue(String refreshToken) {
+        RefreshToken stored = findValidRefreshToken(refreshToken);
+        if (refreshTokenRepository.deleteByTokenHash(stored.getTokenHash()) == 0) {
+            throw new GlobalNoriterException(AuthExceptionType.INVALID_REFRESH_TOKEN);
         }
-        return optionalMember.get();
+        return issueTokens(stored.getMemberId());
     }
 
     @Transactional
-    public void updateRefreshToken(String jwtRefreshToken, Long memberId) {
-        Member findMember = memberRepository.findById(memberId)
-            .orElseThrow(RuntimeException::new);
-        findMember.updateRefreshToken(jwtRefreshToken);
+    public void logout(String refreshToken) {
+        validateNotEmpty(refreshToken);
+        refreshTokenRepository.deleteByTokenHash(RefreshToken.hash(refreshToken));
     }
 
+    @Scheduled(cron = "${auth.refresh-token.cleanup-cron:0 0 * * * *}")
     @Transactional
-    public void deleteRefreshToken(Long decodedMemberId) {
-        Member findMember = memberRepository.findById(decodedMemberId)
-            .orElseThrow(RuntimeException::new);
+    public void deleteExpiredRefreshTokens() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
 
-        findMember.updateRefreshToken(null);
+    private AuthTokens issueTokens(Long memberId) {
+        String accessToken = jwtProvider.issueAccessToken(memberId);
+        String refreshToken = jwtProvider.issueRefreshToken(memberId);
+        refreshTokenRepository.save(new RefreshToken(refreshToken, memberId,
+            LocalDateTime.now().plus(JwtProvider.REFRESH_TOKEN_VALIDITY)));
+        return new AuthTokens(accessToken, refreshToken);
+    }
+
+    private RefreshToken findValidRefreshToken(String refreshToken) {
+        validateNotEmpty(refreshToken);
+        RefreshToken stored = refreshTokenRepository.findById(RefreshToken.hash(refreshToken))
+            .orElseThrow(() -> new GlobalNoriterException(
+                AuthExceptionType.INVALID_REFRESH_TOKEN));
+        if (stored.isExpired(LocalDateTime.now())) {
+            throw new GlobalNoriterException(AuthExceptionType.EXPIRED_REFRESH_TOKEN);
+        }
+        return stored;
+    }
+
+    private void validateNotEmpty(String refreshToken) {
+        if (!StringUtils.hasText(refreshToken)) {
+            throw new GlobalNoriterException(AuthExceptionType.EMPTY_REFRESH_TOKEN);
+        }
     }
 }
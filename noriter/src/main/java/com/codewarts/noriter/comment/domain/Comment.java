@@ -13,9 +13,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,6 +25,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(indexes = {
+  @Index(name = "idx_comment_article_parent", columnList = "article_id, parent_id"),
+  @Index(name = "idx_comment_created_time", columnList = "createdTime")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseTimeEntity {
 
@@ -3,9 +3,9 @@ package com.codewarts.noriter.comment.dto.comment;
 import com.codewarts.noriter.comment.domain.Comment;
 import com.codewarts.noriter.member.dto.WriterInfoResponse;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 
+// 게시글 상세 캐시로 여러 요청이 같은 인스턴스를 공유하므로 만든 뒤에는 바꿀 수 없게 한다.
 @Getter
 public class CommentResponse {
 
@@ -14,12 +14,10 @@ public class CommentResponse {
     private final WriterInfoResponse writer;
     private final List<CommentResponse> recomments;
 
-    public CommentResponse(Comment comment) {
+    public CommentResponse(Comment comment, List<CommentResponse> recomments) {
         this.id = comment.getId();
         this.content = comment.getContent();
         this.writer = WriterInfoResponse.from(comment.getWriter());
-        this.recomments = comment.getChildren().stream()
-            .map(CommentResponse::new)
-            .collect(Collectors.toList());
+        this.recomments = List.copyOf(recomments);
     }
 }
@@ -1,8 +1,14 @@
 package com.codewarts.noriter.comment.repository;
 
 import com.codewarts.noriter.comment.domain.Comment;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    @Query("select c from Comment c join fetch c.writer "
+        + "where c.article.id = :articleId and c.deleted = false order by c.id")
+    List<Comment> findAllWithWriterByArticleId(@Param("articleId") Long articleId);
 }
@@ -1,7 +1,9 @@
 package com.codewarts.noriter.comment.service;
 
+import com.codewarts.noriter.article.cache.ArticleDetailCache;
 import com.codewarts.noriter.article.domain.Article;
 import com.codewarts.noriter.article.repository.ArticleRepository;
+import com.codewarts.noriter.article.search.TrendingIndex;
 import com.codewarts.noriter.comment.domain.Comment;
 import com.codewarts.noriter.comment.dto.comment.CommentCreateRequest;
 import com.codewarts.noriter.comment.dto.comment.CommentUpdateRequest;
@@ -9,9 +11,8 @@ import com.codewarts.noriter.comment.repository.CommentRepository;
 import com.codewarts.noriter.exception.GlobalNoriterException;
 import com.codewarts.noriter.exception.type.ArticleExceptionType;
 import com.codewarts.noriter.exception.type.CommentExceptionType;
-import com.codewarts.noriter.exception.type.MemberExceptionType;
+import com.codewarts.noriter.member.cache.MemberCache;
 import com.codewarts.noriter.member.domain.Member;
-import com.codewarts.noriter.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,13 +24,20 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final ArticleRepository articleRepository;
-    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final ArticleDetailCache articleDetailCache;
+    private final TrendingIndex trendingIndex;
 
     public void createComment(Long memberId, Long articleId, CommentCreateRequest request) {
         Member member = findMember(memberId);
         Article article = findNotDeletedArticle(articleId);
         Comment comment = request.toComment(article, member);
+        // 카운터 UPDATE 로 게시글 행을 먼저 배타 잠금한다. 댓글 INSERT 의 외래 키 공유 잠금을 먼저 잡으면
+        // 같은 게시글에 동시에 댓글을 다는 트랜잭션끼리 잠금을 올리려다 교착 상태가 된다.
+        articleRepository.increaseCommentCount(articleId);
         commentRepository.save(comment);
+        articleDetailCache.evict(articleId);
+        trendingIndex.recordComment(articleId, article.getArticleType());
     }
 
     public void updateComment(Long memberId, Long articleId, Long id, CommentUpdateRequest request) {
@@ -39,6 +47,7 @@ public class CommentService {
         comment.validateArticleOrThrow(article);
         comment.validateWriterOrThrow(member);
         comment.update(request.getContent(), request.getSecret());
+        articleDetailCache.evict(articleId);
     }
 
     public void deleteComment(Long memberId, Long articleId, Long id) {
@@ -47,7 +56,10 @@ public class CommentService {
         Comment comment = findNotDeletedComment(id);
         comment.validateArticleOrThrow(article);
         comment.validateWriterOrThrow(member);
+        // 댓글 작성과 같은 순서로 게시글 행을 먼저 잠근다. 삭제된 댓글은 댓글 수에 세지 않는다.
+        articleRepository.decreaseCommentCount(articleId);
         comment.delete();
+        articleDetailCache.evict(articleId);
     }
 
     public void createReComment(Long id, Long articleId, Long memberId,
@@ -58,8 +70,11 @@ public class CommentService {
         parentComment.validateChildOrThrow();
 
         Comment childComment = request.toRecomment(article, member, parentComment);
+        articleRepository.increaseCommentCount(articleId);
         commentRepository.save(childComment);
         parentComment.addChild(childComment);
+        articleDetailCache.evict(articleId);
+        trendingIndex.recordComment(articleId, article.getArticleType());
     }
 
     private Article findNotDeletedArticle(Long id) {
@@ -80,8 +95,9 @@ public class CommentService {
         return comment;
     }
 
+    // 회원 존재는 캐시로 확인하고 SELECT 없이 만든 프록시를 쓴다.
+    // 같은 영속성 컨텍스트에서는 댓글의 작성자와 같은 인스턴스라 작성자 비교도 그대로 동작한다.
     private Member findMember(Long id) {
-        return memberRepository.findById(id).orElseThrow(() -> new GlobalNoriterException(
-            MemberExceptionType.MEMBER_NOT_FOUND));
+        return memberCache.getReference(id);
     }
 }
@@ -0,0 +1,53 @@
+package com.codewarts.noriter.comment.service;
+
+import com.codewarts.noriter.comment.domain.Comment;
+import com.codewarts.noriter.comment.dto.comment.CommentResponse;
+import com.codewarts.noriter.comment.repository.CommentRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentTreeAssembler {
+
+    private final CommentRepository commentRepository;
+
+    // 삭제되지 않은 댓글을 작성자와 함께 한 번에 조회한 뒤, 메모리에서 댓글-대댓글 구조를 만든다.
+    // id 순으로 조회하므로 같은 부모의 대댓글도 작성 순서대로 붙는다.
+    // 부모 댓글이 삭제된 대댓글은 붙일 곳이 없으므로 응답에서 제외된다.
+    public List<CommentResponse> assemble(Long articleId) {
+        return toTree(commentRepository.findAllWithWriterByArticleId(articleId));
+    }
+
+    // 조회와 분리해 DB 없이도 트리 구성 비용을 측정할 수 있게 한다.
+    // 응답은 상세 캐시로 공유되므로 대댓글 목록을 먼저 모은 뒤 읽기 전용 목록으로 넘겨 만든다.
+    public static List<CommentResponse> toTree(List<Comment> comments) {
+        Map<Long, List<Comment>> recomments = new HashMap<>();
+        List<Comment> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            if (comment.getParent() == null) {
+                roots.add(comment);
+                continue;
+            }
+            recomments.computeIfAbsent(comment.getParent().getId(), id -> new ArrayList<>())
+                .add(comment);
+        }
+        return toResponses(roots, recomments);
+    }
+
+    private static List<CommentResponse> toResponses(List<Comment> comments,
+        Map<Long, List<Comment>> recomments) {
+        List<CommentResponse> responses = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            List<Comment> children = recomments.getOrDefault(comment.getId(), List.of());
+            responses.add(new CommentResponse(comment, toResponses(children, recomments)));
+        }
+        return List.copyOf(responses);
+    }
+}
@@ -2,10 +2,15 @@ package com.codewarts.noriter.common.config;
 
 
 import com.codewarts.noriter.auth.jwt.JwtProperties;
+import com.codewarts.noriter.auth.oauth.properties.OAuthClientProperties;
 import com.codewarts.noriter.auth.oauth.properties.OAuthPropertiesMapper;
+import com.codewarts.noriter.common.converter.ArticleTypeConverter;
+import com.codewarts.noriter.common.converter.HashtagMatchTypeConverter;
 import com.codewarts.noriter.common.converter.StatusTypeConverter;
 import com.codewarts.noriter.auth.resolver.AuthVerificationArgumentResolver;
+import io.netty.channel.ChannelOption;
 import io.netty.resolver.DefaultAddressResolverGroup;
+import java.time.Duration;
 import java.util.List;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -14,17 +19,23 @@ import org.springframework.format.FormatterRegistry;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 
 @Configuration
 @EnableWebMvc
-@EnableConfigurationProperties({JwtProperties.class, OAuthPropertiesMapper.class})
+@EnableConfigurationProperties({JwtProperties.class, OAuthPropertiesMapper.class,
+    OAuthClientProperties.class})
 public class WebConfig implements WebMvcConfigurer {
 
+    // Mono 를 반환하는 비동기 요청의 최대 처리 시간. Resource Server 호출 타임아웃보다 길게 둔다.
+    private static final Duration ASYNC_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
     private final AuthVerificationArgumentResolver authVerificationArgumentResolver;
 
     public WebConfig(AuthVerificationArgumentResolver authVerificationArgumentResolver) {
@@ -36,10 +47,30 @@ public class WebConfig implements WebMvcConfigurer {
        resolvers.add(authVerificationArgumentResolver);
     }
 
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(ASYNC_REQUEST_TIMEOUT.toMillis());
+    }
+
+    // 로그인이 몰려도 Resource Server 로의 커넥션 수와 대기 요청 수를 제한한다.
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider connectionProvider(OAuthClientProperties properties) {
+        return ConnectionProvider.builder("oauth")
+            .maxConnections(properties.getMaxConnections())
+            .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+            .maxIdleTime(properties.getMaxIdleTime())
+            .metrics(true)
+            .build();
+    }
+
     @Bean
-    public HttpClient httpClient() {
-        return HttpClient.create()
-            .resolver(DefaultAddressResolverGroup.INSTANCE);
+    public HttpClient httpClient(ConnectionProvider connectionProvider,
+        OAuthClientProperties properties) {
+        return HttpClient.create(connectionProvider)
+            .resolver(DefaultAddressResolverGroup.INSTANCE)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                (int) properties.getConnectTimeout().toMillis());
     }
 
     @Bean
@@ -52,6 +83,9 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addFormatters(FormatterRegistry registry) {
         registry.addConverter(new StatusTypeConverter.StringToStatusTypeConverter());
+        registry.addConverter(
+            new HashtagMatchTypeConverter.StringToHashtagMatchTypeConverter());
+        registry.addConverter(new ArticleTypeConverter.StringToArticleTypeConverter());
     }
 
     @Override
@@ -0,0 +1,15 @@
+package com.codewarts.noriter.common.converter;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import org.springframework.core.convert.converter.Converter;
+
+public class ArticleTypeConverter {
+
+    public static class StringToArticleTypeConverter implements Converter<String, ArticleType> {
+
+        @Override
+        public ArticleType convert(String source) {
+            return ArticleType.valueOfWithCaseInsensitive(source);
+        }
+    }
+}
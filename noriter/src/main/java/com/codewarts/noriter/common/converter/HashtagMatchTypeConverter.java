@@ -0,0 +1,16 @@
+package com.codewarts.noriter.common.converter;
+
+import com.codewarts.noriter.article.domain.type.HashtagMatchType;
+import org.springframework.core.convert.converter.Converter;
+
+public class HashtagMatchTypeConverter {
+
+    public static class StringToHashtagMatchTypeConverter implements
+        Converter<String, HashtagMatchType> {
+
+        @Override
+        public HashtagMatchType convert(String source) {
+            return HashtagMatchType.valueOfWithCaseInsensitive(source);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.codewarts.noriter.common.util;
+
+public class PagingUtils {
+
+    public static final String DEFAULT_PAGE_SIZE = "20";
+    public static final int MAX_PAGE_SIZE = 50;
+
+}
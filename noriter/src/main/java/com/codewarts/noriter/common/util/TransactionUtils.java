@@ -0,0 +1,37 @@
+package com.codewarts.noriter.common.util;
+
+import java.util.function.Consumer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메모리 캐시, 색인처럼 DB 밖에 있는 상태는 롤백된 변경이 남지 않도록 트랜잭션이 끝난 뒤에 바꾼다.
+// 트랜잭션 밖에서 호출하면 이미 커밋된 것으로 보고 바로 실행한다.
+public class TransactionUtils {
+
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 커밋이든 롤백이든 트랜잭션이 끝나면 커밋 여부를 넘겨 실행한다.
+    public static void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
@@ -11,7 +11,13 @@ public enum AuthExceptionType implements ExceptionType {
     INVALID_AUTHORIZATION_CODE("AUTH003", "유효하지 않은 code 입니다.", HttpStatus.UNAUTHORIZED),
     EMPTY_ACCESS_TOKEN("AUTH004", "비어있는 Access Token 입니다.", HttpStatus.BAD_REQUEST),
     TAMPERED_ACCESS_TOKEN("AUTH005", "변조된 Access Token 입니다.", HttpStatus.UNAUTHORIZED),
-    EXPIRED_ACCESS_TOKEN("AUTH006", "만료된 Access Token 입니다.", HttpStatus.UNAUTHORIZED);
+    EXPIRED_ACCESS_TOKEN("AUTH006", "만료된 Access Token 입니다.", HttpStatus.UNAUTHORIZED),
+    RESOURCE_SERVER_ERROR("AUTH007", "Resource Server 요청에 실패했습니다.", HttpStatus.BAD_GATEWAY),
+    RESOURCE_SERVER_TIMEOUT("AUTH008", "Resource Server 응답 시간이 초과되었습니다.",
+        HttpStatus.GATEWAY_TIMEOUT),
+    EMPTY_REFRESH_TOKEN("AUTH009", "비어있는 Refresh Token 입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_REFRESH_TOKEN("AUTH010", "유효하지 않은 Refresh Token 입니다.", HttpStatus.UNAUTHORIZED),
+    EXPIRED_REFRESH_TOKEN("AUTH011", "만료된 Refresh Token 입니다.", HttpStatus.UNAUTHORIZED);
 
     private final String errorCode;
     private final String message;
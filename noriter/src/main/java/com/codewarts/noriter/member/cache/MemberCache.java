@@ -0,0 +1,58 @@
+package com.codewarts.noriter.member.cache;
+
+import com.codewarts.noriter.exception.GlobalNoriterException;
+import com.codewarts.noriter.exception.type.MemberExceptionType;
+import com.codewarts.noriter.member.domain.Member;
+import com.codewarts.noriter.member.dto.WriterInfoResponse;
+import com.codewarts.noriter.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+// 존재가 확인된 회원의 작성자 정보를 캐시해, 쓰기 요청마다 회원을 SELECT 하지 않는다.
+// 작성자 외래 키에는 회원 엔티티 대신 프록시를 넘긴다.
+// 지금은 회원 정보 수정, 탈퇴 기능이 없어 비우지 않는다. 그런 기능을 추가하면 커밋 이후에 해당 회원을 비워야 한다.
+@Component
+public class MemberCache {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+    private static final String CACHE_NAME = "member.writer";
+
+    private final Cache<Long, WriterInfoResponse> cache = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .recordStats()
+        .build();
+
+    private final MemberRepository memberRepository;
+
+    public MemberCache(MemberRepository memberRepository, MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 없는 회원은 캐시하지 않으므로 나중에 가입한 회원도 바로 조회된다.
+    public WriterInfoResponse getWriterInfo(Long memberId) {
+        WriterInfoResponse writerInfo = cache.get(memberId,
+            id -> memberRepository.findWriterInfoById(id).orElse(null));
+        if (writerInfo == null) {
+            throw new GlobalNoriterException(MemberExceptionType.MEMBER_NOT_FOUND);
+        }
+        return writerInfo;
+    }
+
+    public void validateExists(Long memberId) {
+        getWriterInfo(memberId);
+    }
+
+    // 존재를 확인한 뒤 SELECT 없이 만든 프록시를 돌려준다. 외래 키나 id 비교에만 쓴다.
+    public Member getReference(Long memberId) {
+        validateExists(memberId);
+        return memberRepository.getReferenceById(memberId);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
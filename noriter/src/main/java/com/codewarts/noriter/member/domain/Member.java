@@ -11,6 +11,8 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,6 +20,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "uk_member_resource_server",
+        columnNames = {"resourceServer", "resourceServerId"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member {
 
@@ -34,20 +40,14 @@ public class Member {
     private String nickname;
     private String email;
     private String profileImageUrl;
-    private String refreshToken;
 
     @Builder
     public Member(ResourceServer resourceServer, Long resourceServerId,
-        String nickname, String email, String profileImageUrl, String refreshToken) {
+        String nickname, String email, String profileImageUrl) {
         this.resourceServer = resourceServer;
         this.resourceServerId = resourceServerId;
         this.nickname = nickname;
         this.email = email;
         this.profileImageUrl = profileImageUrl;
-        this.refreshToken = refreshToken;
-    }
-
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
     }
 }
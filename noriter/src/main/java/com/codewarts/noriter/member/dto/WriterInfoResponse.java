@@ -11,9 +11,13 @@ public class WriterInfoResponse {
     private final String profileImage;
 
     public WriterInfoResponse(Member writer) {
-        this.id = writer.getId();
-        this.nickname = writer.getNickname();
-        this.profileImage = writer.getProfileImageUrl();
+        this(writer.getId(), writer.getNickname(), writer.getProfileImageUrl());
+    }
+
+    public WriterInfoResponse(Long id, String nickname, String profileImage) {
+        this.id = id;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
     }
 
     public static WriterInfoResponse from(Member member) {
@@ -2,12 +2,19 @@ package com.codewarts.noriter.member.repository;
 
 import com.codewarts.noriter.member.domain.Member;
 import com.codewarts.noriter.auth.oauth.type.ResourceServer;
+import com.codewarts.noriter.member.dto.WriterInfoResponse;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByResourceServerAndResourceServerId(ResourceServer resourceServer, Long resourceServerId);
+
+    @Query("select new com.codewarts.noriter.member.dto.WriterInfoResponse(m.id, m.nickname, m.profileImageUrl) "
+        + "from Member m where m.id = :id")
+    Optional<WriterInfoResponse> findWriterInfoById(@Param("id") Long id);
 }
@@ -0,0 +1,132 @@
+package com.codewarts.noriter.wish.cache;
+
+import com.codewarts.noriter.common.util.TransactionUtils;
+import com.codewarts.noriter.wish.repository.WishRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+// 회원별로 찜한 게시글 ID 를 압축 비트맵으로 들고 있는 캐시. 목록, 상세의 찜 여부를 SQL 없이 확인한다.
+// 최근에 조회한 회원만 처음 조회할 때 DB 에서 읽어 오고, 크기 한도를 넘으면 오래 쓰지 않은 회원부터 내보낸다.
+@Component
+public class MemberWishCache {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+    private static final String CACHE_NAME = "wish.member";
+    // 조회 트랜잭션이 이보다 오래 걸리지 않는다고 보고, 그보다 오래된 변경은 적재 쿼리에 이미 보인다고 본다.
+    private static final Duration RECENT_CHANGE_RETENTION = Duration.ofMinutes(1);
+
+    private final WishRepository wishRepository;
+    // 비트맵은 한 번 캐시에 넣으면 바꾸지 않는다. 찜 변경은 복사본을 만들어 교체하므로 조회에 잠금이 필요 없다.
+    private final Cache<Long, Roaring64Bitmap> cache = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .recordStats()
+        .build();
+    // 최근에 커밋된 회원별 찜 변경(게시글 ID, 찜 여부). 적재 쿼리는 호출한 트랜잭션의 스냅샷으로 읽으므로,
+    // 그 스냅샷 뒤에 커밋됐지만 회원이 캐시에 없어 갱신을 건너뛴 찜을 놓칠 수 있다. 적재한 비트맵에 다시 적용한다.
+    private final Cache<Long, Map<Long, Boolean>> recentChanges = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .expireAfterWrite(RECENT_CHANGE_RETENTION)
+        .build();
+
+    public MemberWishCache(WishRepository wishRepository, MeterRegistry meterRegistry) {
+        this.wishRepository = wishRepository;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".bitmap.bytes", this, MemberWishCache::totalBytes)
+            .description("캐시된 회원 찜 비트맵의 전체 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder(CACHE_NAME + ".bitmap.bytes.per.member", this,
+                MemberWishCache::averageBytes)
+            .description("캐시된 회원 한 명당 찜 비트맵 평균 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    public boolean contains(Long memberId, Long articleId) {
+        return bitmapOf(memberId).contains(articleId);
+    }
+
+    public Set<Long> findWishedArticleIds(Long memberId, Collection<Long> articleIds) {
+        Roaring64Bitmap wished = bitmapOf(memberId);
+        return articleIds.stream()
+            .filter(wished::contains)
+            .collect(Collectors.toSet());
+    }
+
+    // 캐시에 없는 회원은 최근 변경에만 남기고, 다음 조회 때 적재한 비트맵에 적용한다.
+    // 적재 중인 회원은 적재가 끝난 뒤 반영되어, 적재 쿼리가 이 찜을 놓쳤더라도 빠지지 않는다.
+    public void add(Long memberId, Long articleId) {
+        TransactionUtils.afterCommit(() -> change(memberId, articleId, true));
+    }
+
+    public void remove(Long memberId, Long articleId) {
+        TransactionUtils.afterCommit(() -> change(memberId, articleId, false));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+        recentChanges.invalidateAll();
+    }
+
+    private Roaring64Bitmap bitmapOf(Long memberId) {
+        return cache.get(memberId, this::load);
+    }
+
+    private Roaring64Bitmap load(Long memberId) {
+        Roaring64Bitmap bitmap = new Roaring64Bitmap();
+        wishRepository.findArticleIdsByMemberId(memberId).forEach(bitmap::addLong);
+        Map<Long, Boolean> changes = recentChanges.getIfPresent(memberId);
+        if (changes != null) {
+            changes.forEach((articleId, wished) -> apply(bitmap, articleId, wished));
+        }
+        bitmap.runOptimize();
+        return bitmap;
+    }
+
+    // 최근 변경을 먼저 남긴다. 그래야 이 갱신과 겹친 적재도 둘 중 하나에서는 반드시 이 찜을 반영한다.
+    private void change(Long memberId, Long articleId, boolean wished) {
+        recentChanges.asMap().compute(memberId, (id, changes) -> {
+            Map<Long, Boolean> updated = changes == null ? new HashMap<>() : new HashMap<>(changes);
+            updated.put(articleId, wished);
+            return updated;
+        });
+        cache.asMap().computeIfPresent(memberId, (id, bitmap) -> {
+            Roaring64Bitmap copy = new Roaring64Bitmap();
+            copy.or(bitmap);
+            apply(copy, articleId, wished);
+            return copy;
+        });
+    }
+
+    private void apply(Roaring64Bitmap bitmap, Long articleId, boolean wished) {
+        if (wished) {
+            bitmap.addLong(articleId);
+        } else {
+            bitmap.removeLong(articleId);
+        }
+    }
+
+    private double totalBytes() {
+        return cache.asMap().values().stream()
+            .mapToLong(Roaring64Bitmap::getLongSizeInBytes)
+            .sum();
+    }
+
+    private double averageBytes() {
+        return cache.asMap().values().stream()
+            .mapToLong(Roaring64Bitmap::getLongSizeInBytes)
+            .average()
+            .orElse(0);
+    }
+}
@@ -3,6 +3,10 @@ package com.codewarts.noriter.wish.controller;
 import com.codewarts.noriter.auth.LoginCheck;
 import com.codewarts.noriter.exception.GlobalNoriterException;
 import com.codewarts.noriter.exception.type.CommonExceptionType;
+import com.codewarts.noriter.wish.dto.WishChangeRequest;
+import com.codewarts.noriter.wish.dto.WishChangeResponse;
+import com.codewarts.noriter.wish.dto.WishStatusRequest;
+import com.codewarts.noriter.wish.dto.WishStatusResponse;
 import com.codewarts.noriter.wish.service.WishService;
 import java.util.Map;
 import javax.validation.Valid;
@@ -12,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -45,4 +50,20 @@ public class WishController {
         }
         wishService.delete(memberId, map.get("articleId"));
     }
+
+    @PutMapping
+    public WishChangeResponse change(@RequestBody @Valid WishChangeRequest request,
+        @LoginCheck Long memberId) {
+        boolean changed = wishService.change(memberId, request.getArticleId(),
+            request.getWished());
+        return new WishChangeResponse(request.getArticleId(), request.getWished(), changed);
+    }
+
+    // 여러 게시글의 찜 여부를 한 번에 확인한다. 요청한 ID 중 찜한 ID 만 요청 순서대로 반환한다.
+    @PostMapping("/status")
+    public WishStatusResponse status(@RequestBody @Valid WishStatusRequest request,
+        @LoginCheck Long memberId) {
+        return new WishStatusResponse(
+            wishService.findWishedArticleIds(memberId, request.getArticleIds()));
+    }
 }
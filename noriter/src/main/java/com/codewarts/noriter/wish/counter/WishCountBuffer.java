@@ -0,0 +1,236 @@
+package com.codewarts.noriter.wish.counter;
+
+import com.codewarts.noriter.article.repository.ArticleRepository;
+import com.codewarts.noriter.common.util.TransactionUtils;
+import com.codewarts.noriter.wish.domain.WishCountCheckpoint;
+import com.codewarts.noriter.wish.repository.WishCountCheckpointRepository;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 찜 수 변화량을 게시글별 LongAdder 에 모았다가 주기적으로 배치 UPDATE 한 번으로 DB 에 반영한다.
+// 인기 게시글의 찜이 몰려도 게시글 행 잠금을 요청마다 잡지 않는다.
+// 반영 전 변화량은 로컬 로그에도 남겨, 비정상 종료 뒤 다음 기동 때 이어서 반영한다.
+//
+// 로그가 지키지 못하는 구간이 두 가지 있고, 이 구간에서 잃은 변화량은 찜 수 재계산(reconcile)만 바로잡는다.
+// - 찜 커밋 직후 로그에 쓰기 전에 프로세스가 죽은 경우. 로그는 커밋 이후에 쓴다.
+// - 로그에 썼지만 디스크에 내리기 전에 OS 가 죽거나 전원이 나간 경우. 쓰기마다 force 하지 않고,
+//   세그먼트를 교체할 때(반영 주기마다) 한 번만 내린다. 프로세스만 죽었다면 OS 가 쓴 내용을 갖고 있어 잃지 않는다.
+// 커밋 전에 쓰고 force 하면 두 구간이 사라지지만, 롤백된 찜을 되돌리는 레코드가 더 필요하고
+// 찜 요청마다 디스크 동기화를 기다리게 되어 요청마다 행 잠금을 피하려던 이점이 없어진다.
+@Slf4j
+@Component
+public class WishCountBuffer {
+
+    private final ArticleRepository articleRepository;
+    private final WishCountCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final WishCountLog wishCountLog;
+
+    // 로그 추가와 변화량 누적은 읽기 잠금으로 동시에, 세그먼트 교체는 쓰기 잠금으로 배타적으로 한다.
+    // 그래야 교체한 세그먼트의 레코드와 꺼낸 변화량이 정확히 같다.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // DB 에 반영 중인 변화량. 커밋 전까지 조회 결과에 더해야 찜 수가 잠깐 줄어 보이지 않는다.
+    private volatile Map<Long, Long> inflight = Map.of();
+    // 트랜잭션이 끝나지 않았거나, 커밋됐지만 아직 pending 에 더하지 않은 찜 변경 수.
+    // 이 사이의 찜은 wish 테이블에는 보이지만 변화량으로는 아직 오지 않았으므로 재계산에서 건너뛴다.
+    private final Map<Long, Integer> unsettled = new ConcurrentHashMap<>();
+    // 재계산 중에 찜이 바뀐 게시글. 재계산 중이 아니면 null 이다.
+    private volatile Set<Long> touched;
+
+    public WishCountBuffer(ArticleRepository articleRepository,
+        WishCountCheckpointRepository checkpointRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${wish.count-log.dir:data/wish-count-log}") String logDirectory) {
+        this.articleRepository = articleRepository;
+        this.checkpointRepository = checkpointRepository;
+        // 찜 수 재계산처럼 트랜잭션 안에서 호출해도 반영이 먼저 커밋되도록 항상 새 트랜잭션을 쓴다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.wishCountLog = new WishCountLog(Path.of(logDirectory));
+    }
+
+    // 주기적인 반영이 남은 세그먼트를 지우기 전에 복구를 마쳐야 하므로 빈 초기화 단계에서 실행한다.
+    @PostConstruct
+    public void recover() {
+        String logId = wishCountLog.getLogId();
+        long lastSegment = checkpointRepository.findById(logId)
+            .map(WishCountCheckpoint::getLastSegment)
+            .orElse(0L);
+        for (Long segment : wishCountLog.segments()) {
+            if (segment > lastSegment) {
+                Map<Long, Long> deltas = wishCountLog.read(segment);
+                transactionTemplate.executeWithoutResult(status -> apply(deltas, segment));
+                lastSegment = segment;
+                log.info("반영되지 않은 찜 수 로그 복구: 세그먼트 {}, 게시글 {}건", segment, deltas.size());
+            }
+            wishCountLog.delete(segment);
+        }
+        wishCountLog.open(lastSegment);
+    }
+
+    // 정상 종료 때는 남은 변화량을 반영해 다음 기동 때 복구할 로그를 남기지 않는다.
+    @PreDestroy
+    public synchronized void close() {
+        flush();
+        wishCountLog.close();
+    }
+
+    // 롤백된 찜이 찜 수에 남지 않도록 커밋 이후에 반영한다.
+    // 커밋과 로그 쓰기 사이에 프로세스가 죽으면 이 변화량은 재계산 전까지 찜 수에 빠진다.
+    public void add(Long articleId, long delta) {
+        unsettled.merge(articleId, 1, Integer::sum);
+        Set<Long> reconciling = touched;
+        if (reconciling != null) {
+            reconciling.add(articleId);
+        }
+        TransactionUtils.afterCompletion(committed -> settle(articleId, delta, committed));
+    }
+
+    // 아직 DB 에 반영되지 않은 찜 수 변화량. 조회 시 DB 의 찜 수에 더한다.
+    public long pendingDelta(Long articleId) {
+        LongAdder adder = pending.get(articleId);
+        long delta = adder == null ? 0 : adder.sum();
+        return delta + inflight.getOrDefault(articleId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${wish.count-flush.delay:200}")
+    public synchronized void flush() {
+        long segment;
+        Map<Long, Long> deltas;
+        lock.writeLock().lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            segment = wishCountLog.rotate();
+            deltas = drain();
+            inflight = deltas;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            if (!deltas.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> apply(deltas, segment));
+            }
+        } catch (RuntimeException e) {
+            // 세그먼트는 지우지 않는다. 다음 반영이 성공하면 그 세그먼트 번호가 체크포인트가 되어 함께 정리된다.
+            deltas.forEach(this::accumulate);
+            inflight = Map.of();
+            log.warn("찜 수 반영 실패, 다음 주기에 다시 시도합니다.", e);
+            return;
+        }
+        inflight = Map.of();
+        for (Long closed : wishCountLog.segments()) {
+            if (closed <= segment) {
+                wishCountLog.delete(closed);
+            }
+        }
+    }
+
+    // wish 테이블을 기준으로 찜 수를 다시 맞춘다. 통째로 덮어쓰지 않고 차이만큼 더하므로
+    // 읽은 뒤에 반영되는 변화량과 겹치지 않는다. 읽기 전후로 찜이 바뀌었거나 아직 반영하지 않은
+    // 변화량이 있는 게시글은 차이를 알 수 없으므로 이번에는 건너뛴다.
+    @Scheduled(cron = "${wish.count-reconcile.cron:0 0 4 * * *}")
+    public synchronized int reconcile() {
+        Set<Long> reconciling = ConcurrentHashMap.newKeySet();
+        touched = reconciling;
+        try {
+            flush();
+            Set<Long> skipped = new HashSet<>(unsettled.keySet());
+            skipped.addAll(pending.keySet());
+            Map<Long, Long> corrections = transactionTemplate.execute(
+                status -> articleRepository.findWishCountCorrections());
+            corrections.keySet().removeAll(skipped);
+            corrections.keySet().removeAll(reconciling);
+            if (!corrections.isEmpty()) {
+                transactionTemplate.executeWithoutResult(
+                    status -> articleRepository.addWishCounts(corrections));
+                log.info("찜 수 재계산 완료: {}건", corrections.size());
+            }
+            return corrections.size();
+        } finally {
+            touched = null;
+        }
+    }
+
+    // 진행 중인 반영이 끝나기를 기다린 뒤 비운다.
+    public synchronized void clear() {
+        lock.writeLock().lock();
+        try {
+            pending.clear();
+            inflight = Map.of();
+            wishCountLog.delete(wishCountLog.rotate());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 변화량을 pending 에 더한 뒤에 unsettled 에서 뺀다. 순서가 바뀌면 재계산이 그 사이를 놓친다.
+    private void settle(Long articleId, long delta, boolean committed) {
+        try {
+            if (committed) {
+                addNow(articleId, delta);
+            }
+        } finally {
+            unsettled.computeIfPresent(articleId, (id, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    private void addNow(Long articleId, long delta) {
+        lock.readLock().lock();
+        try {
+            wishCountLog.append(articleId, delta);
+            accumulate(articleId, delta);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void accumulate(Long articleId, long delta) {
+        pending.computeIfAbsent(articleId, id -> new LongAdder()).add(delta);
+    }
+
+    // 쓰기 잠금 안에서만 호출한다. 찜과 취소가 상쇄된 게시글은 UPDATE 하지 않는다.
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        Iterator<Entry<Long, LongAdder>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<Long, LongAdder> entry = iterator.next();
+            long delta = entry.getValue().sum();
+            iterator.remove();
+            if (delta != 0) {
+                deltas.put(entry.getKey(), delta);
+            }
+        }
+        return deltas;
+    }
+
+    // 찜 수와 체크포인트를 한 트랜잭션에서 바꿔, 복구 때 같은 세그먼트를 두 번 반영하지 않는다.
+    private void apply(Map<Long, Long> deltas, long segment) {
+        if (!deltas.isEmpty()) {
+            articleRepository.addWishCounts(deltas);
+        }
+        checkpointRepository.save(new WishCountCheckpoint(wishCountLog.getLogId(), segment));
+    }
+}
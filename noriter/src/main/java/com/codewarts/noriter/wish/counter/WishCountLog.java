@@ -0,0 +1,145 @@
+package com.codewarts.noriter.wish.counter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// DB 에 아직 반영하지 않은 찜 수 변화량을 (게시글 ID, 변화량) 고정 길이 레코드로 쌓는 추가 전용 로그.
+// 반영 주기마다 새 세그먼트로 넘어가고, 반영이 끝난 세그먼트는 지운다.
+class WishCountLog {
+
+    private static final int RECORD_SIZE = Long.BYTES * 2;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.log");
+    private static final String LOG_ID_FILE = "log-id";
+
+    private final Path directory;
+    private final String logId;
+    private FileChannel current;
+    private long currentSegment;
+
+    WishCountLog(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            this.logId = readOrCreateLogId();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 로그 디렉터리마다 하나인 식별자. DB 의 반영 위치를 인스턴스별로 구분하는 데 쓴다.
+    String getLogId() {
+        return logId;
+    }
+
+    // 남아 있는 세그먼트보다 큰 번호로 새 세그먼트를 연다. 복구를 마친 뒤에 호출한다.
+    void open(long minimumSegment) {
+        long last = segments().stream().mapToLong(Long::longValue).max().orElse(0);
+        openSegment(Math.max(last, minimumSegment) + 1);
+    }
+
+    // 동시에 호출될 수 있다. FileChannel 의 APPEND 쓰기는 레코드 단위로 원자적이다.
+    // 디스크에 내리지는 않는다. 프로세스가 죽어도 남지만, OS 가 죽으면 마지막 rotate 이후의 레코드는 잃을 수 있다.
+    void append(Long articleId, long delta) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.putLong(articleId).putLong(delta).flip();
+        try {
+            while (record.hasRemaining()) {
+                current.write(record);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 현재 세그먼트를 디스크에 내리고 닫은 뒤 다음 세그먼트를 연다. 닫은 세그먼트 번호를 반환한다.
+    long rotate() {
+        long closed = currentSegment;
+        close();
+        openSegment(closed + 1);
+        return closed;
+    }
+
+    void close() {
+        try {
+            current.force(false);
+            current.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 현재 세그먼트를 제외한 세그먼트 번호를 오름차순으로 반환한다.
+    List<Long> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SEGMENT_NAME.matcher(file.getFileName().toString()))
+                .filter(Matcher::matches)
+                .map(matcher -> Long.parseLong(matcher.group(1)))
+                .filter(segment -> current == null || segment != currentSegment)
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 비정상 종료로 잘린 마지막 레코드는 버린다.
+    Map<Long, Long> read(long segment) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segmentPath(segment)));
+            Map<Long, Long> deltas = new HashMap<>();
+            while (buffer.remaining() >= RECORD_SIZE) {
+                deltas.merge(buffer.getLong(), buffer.getLong(), Long::sum);
+            }
+            deltas.values().removeIf(delta -> delta == 0);
+            return deltas;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void delete(long segment) {
+        try {
+            Files.deleteIfExists(segmentPath(segment));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void openSegment(long segment) {
+        try {
+            current = FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            currentSegment = segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("segment-%019d.log", segment));
+    }
+
+    private String readOrCreateLogId() throws IOException {
+        Path file = directory.resolve(LOG_ID_FILE);
+        if (Files.exists(file)) {
+            return Files.readString(file, StandardCharsets.UTF_8).trim();
+        }
+        String created = UUID.randomUUID().toString();
+        Files.writeString(file, created, StandardCharsets.UTF_8);
+        return created;
+    }
+}
@@ -2,17 +2,28 @@ package com.codewarts.noriter.wish.domain;
 
 import com.codewarts.noriter.article.domain.Article;
 import com.codewarts.noriter.member.domain.Member;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = {
+  @UniqueConstraint(name = "uk_wish_article_member", columnNames = {"article_id", "member_id"})
+}, indexes = {
+  @Index(name = "idx_wish_member_article", columnList = "member_id, article_id"),
+  @Index(name = "idx_wish_created_time", columnList = "createdTime")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Wish {
 
@@ -28,6 +39,10 @@ public class Wish {
   @JoinColumn
   private Article article;
 
+  // 찜은 WishRepository.insertIfAbsent 로만 추가하므로 그 쿼리가 시각을 넣는다. 인기 순위 재구성에 쓴다.
+  @Column(updatable = false)
+  private LocalDateTime createdTime;
+
   public Wish(Member member, Article article) {
     this.member = member;
     this.article = article;
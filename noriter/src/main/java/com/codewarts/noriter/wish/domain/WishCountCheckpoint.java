@@ -0,0 +1,25 @@
+package com.codewarts.noriter.wish.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 찜 수 로그 디렉터리별로 DB 에 반영을 마친 마지막 세그먼트 번호.
+// 찜 수 반영과 같은 트랜잭션에서 저장하므로, 복구 때 이 번호 이하의 세그먼트는 다시 반영하지 않는다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WishCountCheckpoint {
+
+    @Id
+    private String logId;
+
+    private long lastSegment;
+
+    public WishCountCheckpoint(String logId, long lastSegment) {
+        this.logId = logId;
+        this.lastSegment = lastSegment;
+    }
+}
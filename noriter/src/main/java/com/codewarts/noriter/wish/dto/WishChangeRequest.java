@@ -0,0 +1,17 @@
+package com.codewarts.noriter.wish.dto;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class WishChangeRequest {
+
+    @NotNull(message = "ID가 비어있습니다.")
+    @Positive(message = "게시글 ID는 양수이어야 합니다.")
+    private Long articleId;
+    @NotNull(message = "찜 여부는 필수입니다.")
+    private Boolean wished;
+}
@@ -0,0 +1,17 @@
+package com.codewarts.noriter.wish.dto;
+
+import lombok.Getter;
+
+@Getter
+public class WishChangeResponse {
+
+    private final Long articleId;
+    private final boolean wished;
+    private final boolean changed;
+
+    public WishChangeResponse(Long articleId, boolean wished, boolean changed) {
+        this.articleId = articleId;
+        this.wished = wished;
+        this.changed = changed;
+    }
+}
@@ -0,0 +1,21 @@
+package com.codewarts.noriter.wish.dto;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class WishStatusRequest {
+
+    public static final int MAX_ARTICLE_IDS = 300;
+
+    @NotEmpty(message = "게시글 ID 목록이 비어있습니다.")
+    @Size(max = MAX_ARTICLE_IDS, message = "게시글 ID가 너무 많습니다.")
+    private List<@NotNull(message = "ID가 비어있습니다.")
+        @Positive(message = "게시글 ID는 양수이어야 합니다.") Long> articleIds;
+}
@@ -0,0 +1,14 @@
+package com.codewarts.noriter.wish.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class WishStatusResponse {
+
+    private final List<Long> wishedArticleIds;
+
+    public WishStatusResponse(List<Long> wishedArticleIds) {
+        this.wishedArticleIds = wishedArticleIds;
+    }
+}
@@ -0,0 +1,8 @@
+package com.codewarts.noriter.wish.repository;
+
+import com.codewarts.noriter.wish.domain.WishCountCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface WishCountCheckpointRepository extends JpaRepository<WishCountCheckpoint, String> {
+
+}
@@ -1,13 +1,37 @@
 package com.codewarts.noriter.wish.repository;
 
-import com.codewarts.noriter.article.domain.Article;
-import com.codewarts.noriter.member.domain.Member;
 import com.codewarts.noriter.wish.domain.Wish;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface WishRepository extends JpaRepository<Wish, Long> {
 
-    boolean existsByArticleAndMember(Article article, Member member);
-    Optional<Wish> findByArticleAndMember(Article article, Member member);
+    // 회원, 게시글 엔티티를 읽지 않고 한 문장으로 찜을 추가한다. 유니크 키가 중복 찜을 막으므로 동시 요청에도 한 행만 남는다.
+    // 회원, 게시글이 있을 때만 넣으므로 외래 키 오류 없이, 이미 찜했거나 회원, 게시글이 없으면 0을 반환한다.
+    @Modifying
+    @Query(value = "insert ignore into wish (article_id, member_id, created_time) "
+        + "select a.id, m.id, :createdTime from article a, member m "
+        + "where a.id = :articleId and m.id = :memberId",
+        nativeQuery = true)
+    int insertIfAbsent(@Param("articleId") Long articleId, @Param("memberId") Long memberId,
+        @Param("createdTime") LocalDateTime createdTime);
+
+    @Modifying
+    @Query("delete from Wish w where w.article.id = :articleId and w.member.id = :memberId")
+    int deleteByArticleIdAndMemberId(@Param("articleId") Long articleId,
+        @Param("memberId") Long memberId);
+
+    @Query("select w.article.id from Wish w where w.member.id = :memberId")
+    List<Long> findArticleIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("select w.article.id from Wish w "
+        + "where w.member.id = :memberId and w.article.id in :articleIds")
+    Set<Long> findWishedArticleIds(@Param("memberId") Long memberId,
+        @Param("articleIds") Collection<Long> articleIds);
 }
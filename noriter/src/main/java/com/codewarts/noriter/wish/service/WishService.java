@@ -1,55 +1,91 @@
 package com.codewarts.noriter.wish.service;
 
-import com.codewarts.noriter.article.domain.Article;
 import com.codewarts.noriter.article.repository.ArticleRepository;
+import com.codewarts.noriter.article.search.TrendingIndex;
 import com.codewarts.noriter.exception.GlobalNoriterException;
 import com.codewarts.noriter.exception.type.ArticleExceptionType;
-import com.codewarts.noriter.exception.type.MemberExceptionType;
 import com.codewarts.noriter.exception.type.WishExceptionType;
-import com.codewarts.noriter.member.domain.Member;
-import com.codewarts.noriter.member.repository.MemberRepository;
-import com.codewarts.noriter.wish.domain.Wish;
+import com.codewarts.noriter.member.cache.MemberCache;
+import com.codewarts.noriter.wish.cache.MemberWishCache;
+import com.codewarts.noriter.wish.counter.WishCountBuffer;
 import com.codewarts.noriter.wish.repository.WishRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
+@Transactional
 public class WishService {
 
     private final WishRepository wishRepository;
     private final ArticleRepository articleRepository;
-    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final WishCountBuffer wishCountBuffer;
+    private final MemberWishCache memberWishCache;
+    private final TrendingIndex trendingIndex;
 
     public void create(Long memberId, Long articleId) {
-        Member member = findMember(memberId);
-        Article article = articleRepository.findById(articleId)
-            .orElseThrow(() -> new GlobalNoriterException(
-                ArticleExceptionType.ARTICLE_NOT_FOUND));
-
-        boolean existsWish = wishRepository.existsByArticleAndMember(article, member);
-        if (existsWish) {
+        if (!add(memberId, articleId)) {
             throw new GlobalNoriterException(WishExceptionType.WISH_ALREADY_EXIST);
         }
-        wishRepository.save(new Wish(member, article));
     }
 
     public void delete(Long memberId, Long articleId) {
-        Member member = findMember(memberId);
-        Article article = articleRepository.findById(articleId)
-            .orElseThrow(() -> new GlobalNoriterException(
-                ArticleExceptionType.ARTICLE_NOT_FOUND));
+        if (!cancel(memberId, articleId)) {
+            throw new GlobalNoriterException(WishExceptionType.CANNOT_CANCEL_NOT_EXIST_WISH);
+        }
+    }
 
-        Wish wish = wishRepository.findByArticleAndMember(article, member)
-            .orElseThrow(() -> new GlobalNoriterException(
-                WishExceptionType.CANNOT_CANCEL_NOT_EXIST_WISH
-            ));
+    // 찜 상태를 요청한 값으로 맞춘다. 여러 번 요청해도 결과가 같고, 상태가 바뀌었는지를 반환한다.
+    public boolean change(Long memberId, Long articleId, boolean wished) {
+        return wished ? add(memberId, articleId) : cancel(memberId, articleId);
+    }
 
-        wishRepository.delete(wish);
+    @Transactional(readOnly = true)
+    public List<Long> findWishedArticleIds(Long memberId, List<Long> articleIds) {
+        Set<Long> wishedArticleIds = memberWishCache.findWishedArticleIds(memberId, articleIds);
+        return articleIds.stream()
+            .distinct()
+            .filter(wishedArticleIds::contains)
+            .collect(Collectors.toList());
     }
 
-    private Member findMember(Long id) {
-        return memberRepository.findById(id).orElseThrow(() -> new GlobalNoriterException(
-            MemberExceptionType.MEMBER_NOT_FOUND));
+    // 찜 수는 WishCountBuffer 에 모아 따로 반영하므로 요청마다 게시글 행을 잠그지 않는다.
+    // 인기 순위에는 게시판 종류가 필요해 기본 키로 종류만 읽는다. 삭제된 게시글은 순위에 넣지 않는다.
+    private boolean add(Long memberId, Long articleId) {
+        if (wishRepository.insertIfAbsent(articleId, memberId, LocalDateTime.now()) == 0) {
+            validateExists(memberId, articleId);
+            return false;
+        }
+        wishCountBuffer.add(articleId, 1);
+        memberWishCache.add(memberId, articleId);
+        articleRepository.findArticleTypeById(articleId)
+            .ifPresent(articleType -> trendingIndex.recordWish(articleId, articleType));
+        return true;
+    }
+
+    private boolean cancel(Long memberId, Long articleId) {
+        if (wishRepository.deleteByArticleIdAndMemberId(articleId, memberId) == 0) {
+            validateExists(memberId, articleId);
+            return false;
+        }
+        wishCountBuffer.add(articleId, -1);
+        memberWishCache.remove(memberId, articleId);
+        articleRepository.findArticleTypeById(articleId)
+            .ifPresent(articleType -> trendingIndex.cancelWish(articleId, articleType));
+        return true;
+    }
+
+    // 상태가 바뀌지 않은 경우에만 원인을 가리기 위해 회원과 게시글을 확인한다.
+    private void validateExists(Long memberId, Long articleId) {
+        memberCache.validateExists(memberId);
+        if (!articleRepository.existsById(articleId)) {
+            throw new GlobalNoriterException(ArticleExceptionType.ARTICLE_NOT_FOUND);
+        }
     }
 }
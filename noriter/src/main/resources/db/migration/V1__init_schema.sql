@@ -0,0 +1,90 @@
+-- Flyway 도입 전 운영 DB 에 Hibernate(ddl-auto)가 만든 스키마. (JOINED 상속: article + question/gathering)
+-- 운영 DB 는 이 버전으로 baseline 하므로(application-deploy.yml) 내용을 바꾸지 않는다. 구조 변경은 V2 부터 쌓는다.
+CREATE TABLE member
+(
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    email              VARCHAR(255) NULL,
+    nickname           VARCHAR(255) NULL,
+    profile_image_url  VARCHAR(255) NULL,
+    refresh_token      VARCHAR(255) NULL,
+    resource_server    VARCHAR(255) NULL,
+    resource_server_id BIGINT       NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE article
+(
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    created_time       DATETIME(6)  NULL,
+    last_modified_time DATETIME(6)  NULL,
+    article_type       VARCHAR(255) NULL,
+    content            VARCHAR(255) NULL,
+    deleted            DATETIME(6)  NULL,
+    title              VARCHAR(255) NULL,
+    writer_id          BIGINT       NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_article_writer FOREIGN KEY (writer_id) REFERENCES member (id)
+);
+
+CREATE TABLE gathering
+(
+    status VARCHAR(255) NULL,
+    id     BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_gathering_article FOREIGN KEY (id) REFERENCES article (id)
+);
+
+CREATE TABLE question
+(
+    status VARCHAR(255) NULL,
+    id     BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_question_article FOREIGN KEY (id) REFERENCES article (id)
+);
+
+CREATE TABLE hashtag
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    content    VARCHAR(255) NULL,
+    deleted    BIT(1)       NOT NULL,
+    article_id BIGINT       NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_hashtag_article FOREIGN KEY (article_id) REFERENCES article (id)
+);
+
+CREATE TABLE image
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    deleted    BIT(1)       NOT NULL,
+    image_url  VARCHAR(255) NULL,
+    article_id BIGINT       NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_image_article FOREIGN KEY (article_id) REFERENCES article (id)
+);
+
+CREATE TABLE comment
+(
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    created_time       DATETIME(6)  NULL,
+    last_modified_time DATETIME(6)  NULL,
+    content            VARCHAR(255) NULL,
+    deleted            BIT(1)       NOT NULL,
+    secret             BIT(1)       NOT NULL,
+    article_id         BIGINT       NULL,
+    parent_id          BIGINT       NULL,
+    writer_id          BIGINT       NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_article FOREIGN KEY (article_id) REFERENCES article (id),
+    CONSTRAINT fk_comment_parent FOREIGN KEY (parent_id) REFERENCES comment (id),
+    CONSTRAINT fk_comment_writer FOREIGN KEY (writer_id) REFERENCES member (id)
+);
+
+CREATE TABLE wish
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    article_id BIGINT NULL,
+    member_id  BIGINT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_wish_article FOREIGN KEY (article_id) REFERENCES article (id),
+    CONSTRAINT fk_wish_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
@@ -0,0 +1,52 @@
+-- 유니크 키를 걸기 전에 기존 중복 행을 정리한다. 로그인과 찜 INSERT 가 동시에 들어오면 중복이 생길 수 있었다.
+-- 같은 GitHub 계정의 회원은 가장 먼저 만든 회원 하나만 남기고, 작성 글, 댓글, 찜을 그 회원으로 옮긴다.
+CREATE TEMPORARY TABLE member_duplicate AS
+SELECT m.id AS duplicate_id, k.keep_id
+FROM member m
+         JOIN (SELECT resource_server, resource_server_id, MIN(id) AS keep_id
+               FROM member
+               WHERE resource_server IS NOT NULL
+                 AND resource_server_id IS NOT NULL
+               GROUP BY resource_server, resource_server_id
+               HAVING COUNT(*) > 1) k
+              ON k.resource_server = m.resource_server
+                  AND k.resource_server_id = m.resource_server_id
+WHERE m.id <> k.keep_id;
+
+UPDATE article a JOIN member_duplicate d ON d.duplicate_id = a.writer_id SET a.writer_id = d.keep_id;
+UPDATE comment c JOIN member_duplicate d ON d.duplicate_id = c.writer_id SET c.writer_id = d.keep_id;
+UPDATE wish w JOIN member_duplicate d ON d.duplicate_id = w.member_id SET w.member_id = d.keep_id;
+DELETE m FROM member m JOIN member_duplicate d ON d.duplicate_id = m.id;
+DROP TEMPORARY TABLE member_duplicate;
+
+-- 같은 회원이 같은 게시글을 여러 번 찜한 행은 가장 먼저 만든 행만 남긴다. (회원 병합으로 생긴 중복 포함)
+CREATE TEMPORARY TABLE wish_duplicate AS
+SELECT w.id
+FROM wish w
+         JOIN (SELECT article_id, member_id, MIN(id) AS keep_id
+               FROM wish
+               GROUP BY article_id, member_id
+               HAVING COUNT(*) > 1) k
+              ON k.article_id = w.article_id
+                  AND k.member_id = w.member_id
+WHERE w.id <> k.keep_id;
+
+DELETE w FROM wish w JOIN wish_duplicate d ON d.id = w.id;
+DROP TEMPORARY TABLE wish_duplicate;
+
+-- 로그인: MemberRepository.findByResourceServerAndResourceServerId
+ALTER TABLE member
+    ADD CONSTRAINT uk_member_resource_server UNIQUE (resource_server, resource_server_id);
+
+-- 찜 여부, 찜 취소: WishRepository.existsByArticleAndMember, findByArticleAndMember
+ALTER TABLE wish
+    ADD CONSTRAINT uk_wish_article_member UNIQUE (article_id, member_id);
+
+-- 목록 찜 여부: WishRepository.findWishedArticleIds
+CREATE INDEX idx_wish_member_article ON wish (member_id, article_id);
+
+-- 댓글 트리: CommentRepository.findAllWithWriterByArticleId
+CREATE INDEX idx_comment_article_parent ON comment (article_id, parent_id);
+
+-- 해시태그: HashtagRepository.findContentsByArticleIds
+CREATE INDEX idx_hashtag_article_deleted ON hashtag (article_id, deleted);
@@ -0,0 +1,32 @@
+-- JOINED 상속(article + question/gathering) 스키마를 article 단일 테이블 구조로 옮긴다.
+-- 모집 상태는 article.status 로, 찜 수와 댓글 수는 article 의 카운터 컬럼으로 옮긴다.
+ALTER TABLE article
+    ADD COLUMN status        VARCHAR(255) NULL,
+    ADD COLUMN wish_count    INT          NULL DEFAULT 0,
+    ADD COLUMN comment_count INT          NULL DEFAULT 0;
+
+UPDATE article a
+    JOIN question q ON q.id = a.id
+SET a.status       = q.status,
+    a.article_type = 'QUESTION';
+
+UPDATE article a
+    JOIN gathering g ON g.id = a.id
+SET a.status       = g.status,
+    a.article_type = 'GATHERING';
+
+-- 하위 테이블이 없던 게시글은 자유게시판 글이다. 이제 article_type 이 구분 컬럼이라 비어 있으면 안 된다.
+UPDATE article SET article_type = 'PLAYGROUND' WHERE article_type IS NULL;
+ALTER TABLE article MODIFY article_type VARCHAR(31) NOT NULL;
+
+DROP TABLE question;
+DROP TABLE gathering;
+
+-- 카운터는 찜 수 재계산(WishCountBuffer.reconcile), 댓글 수 재계산(ArticleCountRepairService)과 같은 기준(삭제된 댓글 제외)으로 채운다.
+UPDATE article a
+SET a.wish_count    = (SELECT COUNT(*) FROM wish w WHERE w.article_id = a.id),
+    a.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.article_id = a.id AND c.deleted = FALSE);
+
+-- 게시판 목록: ArticleRepository.findAll*List
+CREATE INDEX idx_article_type_deleted_id ON article (article_type, deleted, id);
+CREATE INDEX idx_article_type_status_deleted_id ON article (article_type, status, deleted, id);
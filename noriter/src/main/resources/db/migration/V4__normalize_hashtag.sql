@@ -0,0 +1,48 @@
+-- 해시태그 이름을 사전 테이블(tag)로 분리하고 hashtag 는 게시글과 태그를 잇는 행만 남긴다.
+CREATE TABLE tag
+(
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tag_name UNIQUE (name)
+);
+
+INSERT INTO tag (name)
+SELECT DISTINCT TRIM(content)
+FROM hashtag
+WHERE content IS NOT NULL
+  AND TRIM(content) <> '';
+
+ALTER TABLE hashtag ADD COLUMN tag_id BIGINT NULL;
+
+UPDATE hashtag h
+    JOIN tag t ON t.name = TRIM(h.content)
+SET h.tag_id = t.id;
+
+DELETE FROM hashtag WHERE tag_id IS NULL;
+
+ALTER TABLE hashtag ADD CONSTRAINT fk_hashtag_tag FOREIGN KEY (tag_id) REFERENCES tag (id);
+CREATE INDEX idx_hashtag_tag_deleted ON hashtag (tag_id, deleted);
+ALTER TABLE hashtag DROP COLUMN content;
+
+-- 게시판별 해시태그 사용 게시글 수. 게시글 작성, 수정, 삭제 때 함께 갱신한다.
+CREATE TABLE tag_usage
+(
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    article_type  VARCHAR(255) NULL,
+    article_count INT          NOT NULL DEFAULT 0,
+    tag_id        BIGINT       NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tag_usage_tag_type UNIQUE (tag_id, article_type),
+    CONSTRAINT fk_tag_usage_tag FOREIGN KEY (tag_id) REFERENCES tag (id)
+);
+
+CREATE INDEX idx_tag_usage_type_count ON tag_usage (article_type, article_count);
+
+INSERT INTO tag_usage (tag_id, article_type, article_count)
+SELECT h.tag_id, a.article_type, COUNT(DISTINCT h.article_id)
+FROM hashtag h
+         JOIN article a ON a.id = h.article_id
+WHERE h.deleted = false
+  AND a.deleted IS NULL
+GROUP BY h.tag_id, a.article_type;
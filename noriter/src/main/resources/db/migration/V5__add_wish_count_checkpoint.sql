@@ -0,0 +1,7 @@
+-- 메모리에 모아 둔 찜 수 변화량을 DB 에 반영한 위치. 로그 디렉터리(log_id)마다 한 행을 둔다.
+CREATE TABLE wish_count_checkpoint
+(
+    log_id       VARCHAR(255) NOT NULL,
+    last_segment BIGINT       NOT NULL,
+    PRIMARY KEY (log_id)
+);
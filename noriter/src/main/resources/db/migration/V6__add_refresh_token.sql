@@ -0,0 +1,15 @@
+-- 리프레시 토큰을 member 행에서 떼어 내 해시로 따로 저장한다.
+CREATE TABLE refresh_token
+(
+    token_hash VARCHAR(43) NOT NULL,
+    member_id  BIGINT      NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (token_hash)
+);
+
+-- 만료 토큰 정리: RefreshTokenRepository.deleteExpired
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token (expires_at);
+
+-- 기존 토큰은 해시가 없어 옮기지 않는다. 배포 후 한 번 다시 로그인해야 한다.
+ALTER TABLE member
+    DROP COLUMN refresh_token;
@@ -0,0 +1,8 @@
+-- 인기 순위를 기동 시 최근 찜, 댓글로 다시 채울 수 있도록 찜에도 시각을 남긴다.
+-- 기존 찜은 시각을 알 수 없어 비워 두고, 재구성에서 읽지 않는다.
+ALTER TABLE wish
+    ADD COLUMN created_time DATETIME(6) NULL;
+
+-- 인기 순위 재구성: ArticleRepository.findWishEvents, findCommentEvents
+CREATE INDEX idx_wish_created_time ON wish (created_time);
+CREATE INDEX idx_comment_created_time ON comment (created_time);
@@ -0,0 +1,181 @@
+package com.codewarts.noriter.article.docs.auth;
+
+import static com.codewarts.noriter.auth.utils.OAuthUtils.ACCESS_TOKEN;
+import static com.codewarts.noriter.auth.utils.OAuthUtils.REFRESH_TOKEN;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.codewarts.noriter.article.docs.InitIntegrationRestDocsTest;
+import com.codewarts.noriter.auth.domain.RefreshToken;
+import com.codewarts.noriter.auth.oauth.type.ResourceServer;
+import com.codewarts.noriter.auth.repository.RefreshTokenRepository;
+import com.codewarts.noriter.exception.type.AuthExceptionType;
+import com.codewarts.noriter.member.domain.Member;
+import com.codewarts.noriter.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("GitHub 로그인 기능 통합 테스트")
+@TestPropertySource(properties = {
+    "oauth.stub.enabled=true",
+    "oauth.stub.port=18091",
+    "oauth.stub.latency=0ms",
+    "auth.vendors.github.access_token_api_url=http://127.0.0.1:18091/login/oauth/access_token",
+    "auth.vendors.github.user_info_api_url=http://127.0.0.1:18091/user"
+})
+public class OAuthLoginTest extends InitIntegrationRestDocsTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void Stub_OAuth_서버로_로그인하면_토큰을_발급하고_회원을_저장한다() {
+        String accessToken = given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .body(Map.of("code", "333333"))
+
+        .when()
+            .post("/github/login")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .header(REFRESH_TOKEN, notNullValue())
+            .body("profileImageUrl", equalTo("https://avatars.githubusercontent.com/u/333333"))
+            .extract().header(ACCESS_TOKEN);
+
+        Member member = memberRepository.findByResourceServerAndResourceServerId(
+            ResourceServer.GITHUB, 333333L).get();
+        assertThat(member.getNickname()).isEqualTo("stub-user-333333");
+        assertThat(jwtProvider.verifyToken(accessToken)).isEqualTo(member.getId());
+        assertThat(meterRegistry.get("oauth.request")
+            .tag("call", "access_token")
+            .tag("outcome", "ON_COMPLETE")
+            .timer().count()).isPositive();
+    }
+
+    @Test
+    void 이미_가입한_회원이_로그인하면_같은_회원으로_로그인한다() {
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .body(Map.of("code", "111111"))
+
+        .when()
+            .post("/github/login")
+
+        .then()
+            .statusCode(HttpStatus.OK.value());
+
+        assertThat(memberRepository.count()).isEqualTo(2);
+        assertThat(refreshTokenRepository.findAll())
+            .extracting(RefreshToken::getMemberId)
+            .containsExactly(1L);
+    }
+
+    @Test
+    void 리프레시_토큰으로_재발급하면_두_토큰을_새로_발급하고_이전_토큰은_쓸_수_없다() {
+        String refreshToken = login("111111").header(REFRESH_TOKEN);
+
+        String reissuedRefreshToken = given(documentationSpec)
+            .header(REFRESH_TOKEN, refreshToken)
+
+        .when()
+            .get("/reissue/access-token")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .header(ACCESS_TOKEN, notNullValue())
+            .extract().header(REFRESH_TOKEN);
+
+        assertThat(reissuedRefreshToken).isNotEqualTo(refreshToken);
+        assertReissueRejected(refreshToken, AuthExceptionType.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    void 로그아웃하면_리프레시_토큰을_쓸_수_없다() {
+        String refreshToken = login("111111").header(REFRESH_TOKEN);
+
+        given(documentationSpec)
+            .header(REFRESH_TOKEN, refreshToken)
+
+        .when()
+            .post("/logout")
+
+        .then()
+            .statusCode(HttpStatus.OK.value());
+
+        assertThat(refreshTokenRepository.count()).isZero();
+        assertReissueRejected(refreshToken, AuthExceptionType.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    void 발급하지_않은_리프레시_토큰으로_재발급하면_예외를_발생시킨다() {
+        String forged = jwtProvider.issueRefreshToken(1L);
+
+        assertReissueRejected(forged, AuthExceptionType.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    void 리프레시_토큰이_비어있는_경우_예외를_발생시킨다() {
+        given(documentationSpec)
+
+        .when()
+            .get("/reissue/access-token")
+
+        .then()
+            .statusCode(AuthExceptionType.EMPTY_REFRESH_TOKEN.getStatus().value())
+            .body("errorCode", equalTo(AuthExceptionType.EMPTY_REFRESH_TOKEN.getErrorCode()));
+    }
+
+    @Test
+    void code가_비어있는_경우_예외를_발생시킨다() {
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .body(Map.of())
+
+        .when()
+            .post("/github/login")
+
+        .then()
+            .statusCode(AuthExceptionType.EMPTY_AUTHORIZATION_CODE.getStatus().value())
+            .body("errorCode", equalTo(AuthExceptionType.EMPTY_AUTHORIZATION_CODE.getErrorCode()));
+    }
+
+    private ExtractableResponse<Response> login(String code) {
+        return given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .body(Map.of("code", code))
+
+        .when()
+            .post("/github/login")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract();
+    }
+
+    private void assertReissueRejected(String refreshToken, AuthExceptionType exceptionType) {
+        given(documentationSpec)
+            .header(REFRESH_TOKEN, refreshToken)
+
+        .when()
+            .get("/reissue/access-token")
+
+        .then()
+            .statusCode(exceptionType.getStatus().value())
+            .body("errorCode", equalTo(exceptionType.getErrorCode()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.codewarts.noriter.article.docs.auth;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.codewarts.noriter.article.docs.InitIntegrationRestDocsTest;
+import com.codewarts.noriter.exception.type.AuthExceptionType;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("GitHub 로그인 타임아웃 통합 테스트")
+@TestPropertySource(properties = {
+    "oauth.stub.enabled=true",
+    "oauth.stub.port=18092",
+    "oauth.stub.latency=2s",
+    "oauth.client.response-timeout=200ms",
+    "auth.vendors.github.access_token_api_url=http://127.0.0.1:18092/login/oauth/access_token",
+    "auth.vendors.github.user_info_api_url=http://127.0.0.1:18092/user"
+})
+public class OAuthLoginTimeoutTest extends InitIntegrationRestDocsTest {
+
+    @Test
+    void Resource_Server_응답이_늦으면_타임아웃_예외를_발생시킨다() {
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .body(Map.of("code", "333333"))
+
+        .when()
+            .post("/github/login")
+
+        .then()
+            .statusCode(AuthExceptionType.RESOURCE_SERVER_TIMEOUT.getStatus().value())
+            .body("errorCode", equalTo(AuthExceptionType.RESOURCE_SERVER_TIMEOUT.getErrorCode()));
+    }
+}
@@ -11,18 +11,24 @@ import static com.codewarts.noriter.exception.type.CommentExceptionType.NOT_MATC
 import static com.codewarts.noriter.exception.type.CommonExceptionType.INVALID_REQUEST;
 import static com.codewarts.noriter.exception.type.MemberExceptionType.MEMBER_NOT_FOUND;
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import com.codewarts.noriter.article.docs.InitIntegrationRestDocsTest;
+import com.codewarts.noriter.article.repository.ArticleRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 
 @DisplayName("댓글 삭제 기능 통합 테스트")
 class CommentDeleteTest extends InitIntegrationRestDocsTest {
 
+    @Autowired
+    ArticleRepository articleRepository;
+
     @Test
     void 댓글을_삭제한다() {
         String accessToken = jwtProvider.issueAccessToken(1L);
@@ -40,6 +46,25 @@ class CommentDeleteTest extends InitIntegrationRestDocsTest {
             .statusCode(HttpStatus.OK.value());
     }
 
+    @Test
+    void 댓글을_삭제하면_게시글의_댓글_수가_줄어든다() {
+        String accessToken = jwtProvider.issueAccessToken(1L);
+
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .pathParam("articleId", 1)
+            .pathParam("id", 1)
+
+        .when()
+            .delete("/{articleId}/comment/{id}")
+
+        .then()
+            .statusCode(HttpStatus.OK.value());
+
+        assertThat(articleRepository.findById(1L).orElseThrow().getCommentCount()).isEqualTo(4);
+    }
+
     @Test
     void Access_Token이_비어있는_경우_예외_발생() {
         String accessToken = " ";
@@ -47,7 +47,10 @@ public class GatheringDetailTest extends InitIntegrationRestDocsTest {
             .body("comment[0].writer.id", equalTo(1))
             .body("comment[0].writer.nickname", equalTo("admin1"))
             .body("comment[0].writer.profileImage",
-                equalTo("https://avatars.githubusercontent.com/u/111111?v=4"));
+                equalTo("https://avatars.githubusercontent.com/u/111111?v=4"))
+            .body("comment.size()", equalTo(4))
+            .body("comment[0].recomments.size()", equalTo(1))
+            .body("comment[0].recomments[0].id", equalTo(8));
     }
 
     @Test
@@ -27,19 +27,19 @@ class GatheringListTest extends InitIntegrationRestDocsTest {
 
         .then()
             .statusCode(HttpStatus.OK.value())
-            .body("size()", is(3))
-            .body("[0].id", equalTo(1))
-            .body("[0].title", equalTo("테스트를 해볼것이당"))
-            .body("[0].content", equalTo("안녕하냐고오옹"))
-            .body("[0].writerNickname", equalTo("admin1"))
-            .body("[0].sameWriter", equalTo(false))
-            .body("[0].createdTime", equalTo("2022-11-11 16:25:58"))
-            .body("[0].lastModifiedTime", equalTo("2022-11-11 16:25:58"))
-            .body("[0].hashtags[0]", equalTo("SPRING"))
-            .body("[0].hashtags[1]", equalTo("JPA"))
-            .body("[0].wish", equalTo(false))
-            .body("[0].wishCount", equalTo(1))
-            .body("[0].commentCount", equalTo(6));
+            .body("articles.size()", is(3))
+            .body("articles[2].id", equalTo(1))
+            .body("articles[2].title", equalTo("테스트를 해볼것이당"))
+            .body("articles[2].content", equalTo("안녕하냐고오옹"))
+            .body("articles[2].writerNickname", equalTo("admin1"))
+            .body("articles[2].sameWriter", equalTo(false))
+            .body("articles[2].createdTime", equalTo("2022-11-11 16:25:58"))
+            .body("articles[2].lastModifiedTime", equalTo("2022-11-11 16:25:58"))
+            .body("articles[2].hashtags[0]", equalTo("SPRING"))
+            .body("articles[2].hashtags[1]", equalTo("JPA"))
+            .body("articles[2].wish", equalTo(false))
+            .body("articles[2].wishCount", equalTo(1))
+            .body("articles[2].commentCount", equalTo(5));
     }
     @Test
     void 로그인_후_리스트를_조회한다() {
@@ -55,19 +55,19 @@ class GatheringListTest extends InitIntegrationRestDocsTest {
 
         .then()
             .statusCode(HttpStatus.OK.value())
-            .body("size()", is(3))
-            .body("[0].id", equalTo(1))
-            .body("[0].title", equalTo("테스트를 해볼것이당"))
-            .body("[0].content", equalTo("안녕하냐고오옹"))
-            .body("[0].writerNickname", equalTo("admin1"))
-            .body("[0].sameWriter", equalTo(false))
-            .body("[0].createdTime", equalTo("2022-11-11 16:25:58"))
-            .body("[0].lastModifiedTime", equalTo("2022-11-11 16:25:58"))
-            .body("[0].hashtags[0]", equalTo("SPRING"))
-            .body("[0].hashtags[1]", equalTo("JPA"))
-            .body("[0].wish", equalTo(true))
-            .body("[0].wishCount", equalTo(1))
-            .body("[0].commentCount", equalTo(6));
+            .body("articles.size()", is(3))
+            .body("articles[2].id", equalTo(1))
+            .body("articles[2].title", equalTo("테스트를 해볼것이당"))
+            .body("articles[2].content", equalTo("안녕하냐고오옹"))
+            .body("articles[2].writerNickname", equalTo("admin1"))
+            .body("articles[2].sameWriter", equalTo(false))
+            .body("articles[2].createdTime", equalTo("2022-11-11 16:25:58"))
+            .body("articles[2].lastModifiedTime", equalTo("2022-11-11 16:25:58"))
+            .body("articles[2].hashtags[0]", equalTo("SPRING"))
+            .body("articles[2].hashtags[1]", equalTo("JPA"))
+            .body("articles[2].wish", equalTo(true))
+            .body("articles[2].wishCount", equalTo(1))
+            .body("articles[2].commentCount", equalTo(5));
     }
 
     @Test
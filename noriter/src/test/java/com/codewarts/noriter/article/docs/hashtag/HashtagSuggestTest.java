@@ -0,0 +1,112 @@
+package com.codewarts.noriter.article.docs.hashtag;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.codewarts.noriter.article.docs.InitIntegrationRestDocsTest;
+import com.codewarts.noriter.article.service.HashtagSuggestService;
+import com.codewarts.noriter.exception.type.CommonExceptionType;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("해시태그 자동완성 기능 통합 테스트")
+class HashtagSuggestTest extends InitIntegrationRestDocsTest {
+
+    @Autowired
+    HashtagSuggestService hashtagSuggestService;
+
+    @BeforeEach
+    void rebuildIndex() {
+        hashtagSuggestService.rebuild();
+    }
+
+    @Test
+    void 접두어로_해시태그를_사용_수_순서대로_추천한다() {
+        String accessToken = jwtProvider.issueAccessToken(1L);
+        createQuestion(accessToken, List.of("스터디", "스프링"));
+        createQuestion(accessToken, List.of("스프링"));
+
+        given(documentationSpec)
+            .queryParam("prefix", "스")
+
+        .when()
+            .get("/community/hashtags/suggest")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(2))
+            .body("[0].name", equalTo("스프링"))
+            .body("[0].articleCount", equalTo(3))
+            .body("[1].name", equalTo("스터디"))
+            .body("[1].articleCount", equalTo(1));
+    }
+
+    @Test
+    void 대소문자를_구분하지_않고_추천한다() {
+
+        given()
+            .queryParam("prefix", "sp")
+
+        .when()
+            .get("/community/hashtags/suggest")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(1))
+            .body("[0].name", equalTo("SPRING"));
+    }
+
+    @Test
+    void 사용하는_게시글이_없어진_해시태그는_추천하지_않는다() {
+        String accessToken = jwtProvider.issueAccessToken(1L);
+
+        given()
+            .header(AUTHORIZATION, accessToken)
+            .pathParam("id", 6)
+            .delete("/community/question/{id}")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        given()
+            .queryParam("prefix", "스프")
+
+        .when()
+            .get("/community/hashtags/suggest")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(0));
+    }
+
+    @Test
+    void 접두어가_비어있는_경우_예외를_발생시킨다() {
+
+        given(documentationSpec)
+            .queryParam("prefix", " ")
+
+        .when()
+            .get("/community/hashtags/suggest")
+
+        .then()
+            .statusCode(CommonExceptionType.INVALID_REQUEST.getStatus().value())
+            .body("errorCode", equalTo(CommonExceptionType.INVALID_REQUEST.getErrorCode()));
+    }
+
+    private void createQuestion(String accessToken, List<String> hashtags) {
+        given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("title", "질문", "content", "궁금해요", "hashtags", hashtags))
+            .post("/community/question")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+    }
+}
@@ -0,0 +1,132 @@
+package com.codewarts.noriter.article.docs.hashtag;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.codewarts.noriter.article.docs.InitIntegrationRestDocsTest;
+import com.codewarts.noriter.article.service.PopularHashtagService;
+import com.codewarts.noriter.exception.type.CommonExceptionType;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("인기 해시태그 조회 기능 통합 테스트")
+class PopularHashtagTest extends InitIntegrationRestDocsTest {
+
+    @Autowired
+    PopularHashtagService popularHashtagService;
+
+    @BeforeEach
+    void refreshPopular() {
+        popularHashtagService.refresh();
+    }
+
+    @Test
+    void 게시판별_인기_해시태그를_조회한다() {
+        String accessToken = jwtProvider.issueAccessToken(1L);
+        createGathering(accessToken, List.of("JPA", "Docker"));
+        createGathering(accessToken, List.of("JPA", " JPA ", ""));
+        popularHashtagService.refresh();
+
+        given(documentationSpec)
+            .queryParam("articleType", "gathering")
+            .queryParam("size", 2)
+
+        .when()
+            .get("/community/hashtags/popular")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(2))
+            .body("[0].name", equalTo("JPA"))
+            .body("[0].articleCount", equalTo(3))
+            .body("[1].name", equalTo("SPRING"))
+            .body("[1].articleCount", equalTo(1));
+    }
+
+    @Test
+    void 게시글을_수정하면_인기_해시태그_집계가_바뀐다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+
+        given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .pathParam("id", 11)
+            .body(Map.of("title", "취업하고싶어효", "content", "어떻게하면되나요",
+                "hashtags", List.of("팥", "강남역")))
+            .put("/community/playground/{id}")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+        popularHashtagService.refresh();
+
+        given()
+            .queryParam("articleType", "PLAYGROUND")
+
+        .when()
+            .get("/community/hashtags/popular")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(3))
+            .body("[0].name", equalTo("강남역"))
+            .body("[0].articleCount", equalTo(2))
+            .body("name", hasItems("붕어팥", "팥"))
+            .body("name", not(hasItems("슈크림")));
+    }
+
+    @Test
+    void 게시글을_삭제하면_인기_해시태그에서_빠진다() {
+        String accessToken = jwtProvider.issueAccessToken(1L);
+
+        given()
+            .header(AUTHORIZATION, accessToken)
+            .pathParam("id", 1)
+            .delete("/community/gathering/{id}")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+        popularHashtagService.refresh();
+
+        given()
+            .queryParam("articleType", "gathering")
+
+        .when()
+            .get("/community/hashtags/popular")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(0));
+    }
+
+    @Test
+    void 게시판_종류가_올바르지_않은_경우_예외를_발생시킨다() {
+
+        given(documentationSpec)
+            .queryParam("articleType", "notice")
+
+        .when()
+            .get("/community/hashtags/popular")
+
+        .then()
+            .statusCode(CommonExceptionType.INCORRECT_REQUEST_VALUE.getStatus().value())
+            .body("errorCode", equalTo(CommonExceptionType.INCORRECT_REQUEST_VALUE.getErrorCode()));
+    }
+
+    private void createGathering(String accessToken, List<String> hashtags) {
+        given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("title", "스터디 모집", "content", "같이 공부해요", "hashtags", hashtags))
+            .post("/community/gathering")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+    }
+}
@@ -25,19 +25,19 @@ class PlaygroundListTest extends InitIntegrationRestDocsTest {
 
         .then()
             .statusCode(HttpStatus.OK.value())
-            .body("size()", is(3))
-            .body("[0].id", equalTo(10))
-            .body("[0].title", equalTo("붕어빵 먹고싶어요"))
-            .body("[0].content", equalTo("강남 붕어빵 맛잇는 집"))
-            .body("[0].writerNickname", equalTo("admin2"))
-            .body("[0].sameWriter", equalTo(false))
-            .body("[0].createdTime", equalTo("2022-11-25 16:25:58"))
-            .body("[0].lastModifiedTime", equalTo("2022-11-25 16:25:58"))
-            .body("[0].hashtags[0]", equalTo("강남역"))
-            .body("[0].hashtags[1]", equalTo("붕어팥"))
-            .body("[0].wish", equalTo(false))
-            .body("[0].wishCount", equalTo(1))
-            .body("[0].commentCount", equalTo(2));
+            .body("articles.size()", is(3))
+            .body("articles[2].id", equalTo(10))
+            .body("articles[2].title", equalTo("붕어빵 먹고싶어요"))
+            .body("articles[2].content", equalTo("강남 붕어빵 맛잇는 집"))
+            .body("articles[2].writerNickname", equalTo("admin2"))
+            .body("articles[2].sameWriter", equalTo(false))
+            .body("articles[2].createdTime", equalTo("2022-11-25 16:25:58"))
+            .body("articles[2].lastModifiedTime", equalTo("2022-11-25 16:25:58"))
+            .body("articles[2].hashtags[0]", equalTo("강남역"))
+            .body("articles[2].hashtags[1]", equalTo("붕어팥"))
+            .body("articles[2].wish", equalTo(false))
+            .body("articles[2].wishCount", equalTo(1))
+            .body("articles[2].commentCount", equalTo(2));
     }
 
     @Test
@@ -53,18 +53,18 @@ class PlaygroundListTest extends InitIntegrationRestDocsTest {
 
         .then()
             .statusCode(HttpStatus.OK.value())
-            .body("size()", is(3))
-            .body("[0].id", equalTo(10))
-            .body("[0].title", equalTo("붕어빵 먹고싶어요"))
-            .body("[0].content", equalTo("강남 붕어빵 맛잇는 집"))
-            .body("[0].writerNickname", equalTo("admin2"))
-            .body("[0].sameWriter", equalTo(true))
-            .body("[0].createdTime", equalTo("2022-11-25 16:25:58"))
-            .body("[0].lastModifiedTime", equalTo("2022-11-25 16:25:58"))
-            .body("[0].hashtags[0]", equalTo("강남역"))
-            .body("[0].hashtags[1]", equalTo("붕어팥"))
-            .body("[0].wish", equalTo(true))
-            .body("[0].wishCount", equalTo(1))
-            .body("[0].commentCount", equalTo(2));
+            .body("articles.size()", is(3))
+            .body("articles[2].id", equalTo(10))
+            .body("articles[2].title", equalTo("붕어빵 먹고싶어요"))
+            .body("articles[2].content", equalTo("강남 붕어빵 맛잇는 집"))
+            .body("articles[2].writerNickname", equalTo("admin2"))
+            .body("articles[2].sameWriter", equalTo(true))
+            .body("articles[2].createdTime", equalTo("2022-11-25 16:25:58"))
+            .body("articles[2].lastModifiedTime", equalTo("2022-11-25 16:25:58"))
+            .body("articles[2].hashtags[0]", equalTo("강남역"))
+            .body("articles[2].hashtags[1]", equalTo("붕어팥"))
+            .body("articles[2].wish", equalTo(true))
+            .body("articles[2].wishCount", equalTo(1))
+            .body("articles[2].commentCount", equalTo(2));
     }
 }
@@ -38,7 +38,8 @@ class QuestionDetailTest extends InitIntegrationRestDocsTest {
             .body("wish", equalTo(false))
             .body("hashtags[0]", equalTo("스프링"))
             .body("hashtags[1]", equalTo("코린이"))
-            .body("hashtags[2]", equalTo("도와줘요"));
+            .body("hashtags[2]", equalTo("도와줘요"))
+            .body("hashtags.size()", equalTo(3));
     }
 
     @Test
@@ -66,7 +67,8 @@ class QuestionDetailTest extends InitIntegrationRestDocsTest {
             .body("wish", equalTo(true))
             .body("hashtags[0]", equalTo("스프링"))
             .body("hashtags[1]", equalTo("코린이"))
-            .body("hashtags[2]", equalTo("도와줘요"));
+            .body("hashtags[2]", equalTo("도와줘요"))
+            .body("hashtags.size()", equalTo(3));
     }
 
 
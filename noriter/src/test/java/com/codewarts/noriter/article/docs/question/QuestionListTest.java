@@ -3,6 +3,7 @@ package com.codewarts.noriter.article.docs.question;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -26,7 +27,7 @@ class QuestionListTest extends InitIntegrationRestDocsTest {
 
         .then()
             .statusCode(HttpStatus.OK.value())
-            .body("size()", is(2));
+            .body("articles.size()", is(2));
     }
 
     @Test
@@ -42,7 +43,7 @@ class QuestionListTest extends InitIntegrationRestDocsTest {
 
         .then()
             .statusCode(HttpStatus.OK.value())
-            .body("size()", is(2));
+            .body("articles.size()", is(2));
     }
     @Test
     @DisplayName("모든 질문 글 조회")
@@ -56,20 +57,21 @@ class QuestionListTest extends InitIntegrationRestDocsTest {
 
         .then()
             .statusCode(HttpStatus.OK.value())
-            .body("size()", is(4))
-            .body("[0].id", equalTo(6))
-            .body("[0].title", equalTo("질문1"))
-            .body("[0].content", equalTo("궁금1"))
-            .body("[0].writerNickname", equalTo("admin1"))
-            .body("[0].sameWriter", equalTo(false))
-            .body("[0].createdTime", equalTo("2022-11-11 16:25:58"))
-            .body("[0].lastModifiedTime", equalTo("2022-11-11 16:25:58"))
-            .body("[0].hashtags[0]", equalTo("스프링"))
-            .body("[0].hashtags[1]", equalTo("코린이"))
-            .body("[0].hashtags[2]", equalTo("도와줘요"))
-            .body("[0].wish", equalTo(false))
-            .body("[0].wishCount", equalTo(1))
-            .body("[0].commentCount", equalTo(0));
+            .body("articles.size()", is(4))
+            .body("articles[3].id", equalTo(6))
+            .body("articles[3].title", equalTo("질문1"))
+            .body("articles[3].content", equalTo("궁금1"))
+            .body("articles[3].writerNickname", equalTo("admin1"))
+            .body("articles[3].sameWriter", equalTo(false))
+            .body("articles[3].createdTime", equalTo("2022-11-11 16:25:58"))
+            .body("articles[3].lastModifiedTime", equalTo("2022-11-11 16:25:58"))
+            .body("articles[3].hashtags[0]", equalTo("스프링"))
+            .body("articles[3].hashtags[1]", equalTo("코린이"))
+            .body("articles[3].hashtags[2]", equalTo("도와줘요"))
+            .body("articles[3].hashtags.size()", equalTo(3))
+            .body("articles[3].wish", equalTo(false))
+            .body("articles[3].wishCount", equalTo(1))
+            .body("articles[3].commentCount", equalTo(0));
     }
     @Test
     @DisplayName("로그인 후 모든 질문 글 조회")
@@ -86,19 +88,54 @@ class QuestionListTest extends InitIntegrationRestDocsTest {
 
         .then()
             .statusCode(HttpStatus.OK.value())
-            .body("size()", is(4))
-            .body("[0].id", equalTo(6))
-            .body("[0].title", equalTo("질문1"))
-            .body("[0].content", equalTo("궁금1"))
-            .body("[0].writerNickname", equalTo("admin1"))
-            .body("[0].sameWriter", equalTo(false))
-            .body("[0].createdTime", equalTo("2022-11-11 16:25:58"))
-            .body("[0].lastModifiedTime", equalTo("2022-11-11 16:25:58"))
-            .body("[0].hashtags[0]", equalTo("스프링"))
-            .body("[0].hashtags[1]", equalTo("코린이"))
-            .body("[0].hashtags[2]", equalTo("도와줘요"))
-            .body("[0].wish", equalTo(true))
-            .body("[0].wishCount", equalTo(1))
-            .body("[0].commentCount", equalTo(0));
+            .body("articles.size()", is(4))
+            .body("articles[3].id", equalTo(6))
+            .body("articles[3].title", equalTo("질문1"))
+            .body("articles[3].content", equalTo("궁금1"))
+            .body("articles[3].writerNickname", equalTo("admin1"))
+            .body("articles[3].sameWriter", equalTo(false))
+            .body("articles[3].createdTime", equalTo("2022-11-11 16:25:58"))
+            .body("articles[3].lastModifiedTime", equalTo("2022-11-11 16:25:58"))
+            .body("articles[3].hashtags[0]", equalTo("스프링"))
+            .body("articles[3].hashtags[1]", equalTo("코린이"))
+            .body("articles[3].hashtags[2]", equalTo("도와줘요"))
+            .body("articles[3].hashtags.size()", equalTo(3))
+            .body("articles[3].wish", equalTo(true))
+            .body("articles[3].wishCount", equalTo(1))
+            .body("articles[3].commentCount", equalTo(0));
+    }
+
+    @Test
+    @DisplayName("커서 기반으로 질문 글 조회")
+    void findQuestionWithCursor() {
+        // expected
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .param("size", 2)
+
+        .when()
+            .get("/community/question")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(2))
+            .body("articles[0].id", equalTo(9))
+            .body("articles[1].id", equalTo(8))
+            .body("nextCursor", equalTo(8));
+
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .param("cursor", 8)
+            .param("size", 2)
+
+        .when()
+            .get("/community/question")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(2))
+            .body("articles[0].id", equalTo(7))
+            .body("articles[1].id", equalTo(6))
+            .body("nextCursor", nullValue());
     }
 }
@@ -0,0 +1,155 @@
+package com.codewarts.noriter.article.docs.search;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.codewarts.noriter.article.docs.InitIntegrationRestDocsTest;
+import com.codewarts.noriter.article.service.ArticleSearchService;
+import com.codewarts.noriter.exception.type.CommonExceptionType;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("게시글 검색 기능 통합 테스트")
+class ArticleSearchTest extends InitIntegrationRestDocsTest {
+
+    @Autowired
+    ArticleSearchService articleSearchService;
+
+    @BeforeEach
+    void rebuildIndex() {
+        articleSearchService.rebuild();
+    }
+
+    @Test
+    void 제목과_본문으로_게시글을_검색한다() {
+
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .queryParam("q", "붕어빵")
+
+        .when()
+            .get("/community/search")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(1))
+            .body("articles[0].id", equalTo(10))
+            .body("articles[0].articleType", equalTo("PLAYGROUND"))
+            .body("articles[0].title", equalTo("붕어빵 먹고싶어요"))
+            .body("articles[0].content", equalTo("강남 붕어빵 맛잇는 집"))
+            .body("articles[0].writerNickname", equalTo("admin2"))
+            .body("articles[0].createdTime", equalTo("2022-11-25 16:25:58"))
+            .body("nextCursor", nullValue());
+    }
+
+    @Test
+    void 삭제된_게시글은_검색되지_않는다() {
+
+        given()
+            .queryParam("q", "띵댕동댕")
+
+        .when()
+            .get("/community/search")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(1))
+            .body("articles[0].id", equalTo(12));
+    }
+
+    @Test
+    void 커서로_다음_페이지를_조회한다() {
+
+        given(documentationSpec)
+            .queryParam("q", "질문")
+            .queryParam("size", 2)
+
+        .when()
+            .get("/community/search")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(2))
+            .body("articles[0].id", equalTo(9))
+            .body("articles[1].id", equalTo(8))
+            .body("nextCursor", equalTo(8));
+
+        given()
+            .queryParam("q", "질문")
+            .queryParam("size", 2)
+            .queryParam("cursor", 8)
+
+        .when()
+            .get("/community/search")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(2))
+            .body("articles[0].id", equalTo(7))
+            .body("articles[1].id", equalTo(6))
+            .body("nextCursor", nullValue());
+    }
+
+    @Test
+    void 등록하고_수정한_게시글이_바로_검색된다() {
+        String accessToken = jwtProvider.issueAccessToken(1L);
+
+        Integer id = given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("title", "호떡 맛집", "content", "역삼역 근처", "hashtags", List.of()))
+            .post("/community/playground")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().as(Integer.class);
+
+        given()
+            .queryParam("q", "호떡")
+            .get("/community/search")
+            .then()
+            .body("articles.size()", is(1))
+            .body("articles[0].id", equalTo(id));
+
+        given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .pathParam("id", id)
+            .body(Map.of("title", "붕어빵 맛집", "content", "역삼역 근처", "hashtags", List.of()))
+            .put("/community/playground/{id}")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        given()
+            .queryParam("q", "호떡")
+
+        .when()
+            .get("/community/search")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(0));
+    }
+
+    @Test
+    void 검색어가_비어있는_경우_예외를_발생시킨다() {
+
+        given(documentationSpec)
+            .queryParam("q", " ")
+
+        .when()
+            .get("/community/search")
+
+        .then()
+            .statusCode(CommonExceptionType.INVALID_REQUEST.getStatus().value())
+            .body("errorCode", equalTo(CommonExceptionType.INVALID_REQUEST.getErrorCode()));
+    }
+}
@@ -0,0 +1,243 @@
+package com.codewarts.noriter.article.docs.search;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.codewarts.noriter.article.docs.InitIntegrationRestDocsTest;
+import com.codewarts.noriter.article.service.ArticleSearchService;
+import com.codewarts.noriter.exception.type.CommonExceptionType;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("해시태그 필터 조회 기능 통합 테스트")
+class HashtagFilterTest extends InitIntegrationRestDocsTest {
+
+    @Autowired
+    ArticleSearchService articleSearchService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void rebuildIndex() {
+        articleSearchService.rebuild();
+    }
+
+    @Test
+    void 모든_해시태그를_가진_스터디게시판_글을_조회한다() {
+
+        given(documentationSpec)
+            .queryParam("hashtag", "SPRING", "JPA")
+
+        .when()
+            .get("/community/gathering")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(1))
+            .body("articles[0].id", equalTo(1))
+            .body("articles[0].hashtags.size()", is(3))
+            .body("nextCursor", nullValue());
+    }
+
+    @Test
+    void 공백이나_대소문자가_달라도_사전의_해시태그로_조회한다() {
+
+        given()
+            .queryParam("hashtag", " spring ", "Jpa")
+
+        .when()
+            .get("/community/gathering")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(1))
+            .body("articles[0].id", equalTo(1));
+    }
+
+    @Test
+    void 해시태그_중_하나라도_가진_글을_조회한다() {
+
+        given()
+            .queryParam("hashtag", "SPRING", "없는태그")
+
+        .when()
+            .get("/community/gathering")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(0));
+
+        given(documentationSpec)
+            .queryParam("hashtag", "SPRING", "없는태그")
+            .queryParam("hashtagMatch", "any")
+
+        .when()
+            .get("/community/gathering")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(1))
+            .body("articles[0].id", equalTo(1));
+    }
+
+    @Test
+    void 해시태그와_상태로_질문게시판_글을_조회한다() {
+
+        given()
+            .queryParam("hashtag", "스프링", "백엔드")
+            .queryParam("hashtagMatch", "ANY")
+
+        .when()
+            .get("/community/question")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(2))
+            .body("articles[0].id", equalTo(7))
+            .body("articles[1].id", equalTo(6));
+
+        given(documentationSpec)
+            .queryParam("hashtag", "스프링", "백엔드")
+            .queryParam("hashtagMatch", "ANY")
+            .queryParam("status", "complete")
+
+        .when()
+            .get("/community/question")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(1))
+            .body("articles[0].id", equalTo(7));
+    }
+
+    @Test
+    void 해시태그_필터_결과를_커서로_나눠_조회한다() {
+
+        given()
+            .queryParam("hashtag", "스프링", "백엔드", "진짜루")
+            .queryParam("hashtagMatch", "ANY")
+            .queryParam("size", 2)
+
+        .when()
+            .get("/community/question")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(2))
+            .body("articles[0].id", equalTo(8))
+            .body("articles[1].id", equalTo(7))
+            .body("nextCursor", equalTo(7));
+
+        given()
+            .queryParam("hashtag", "스프링", "백엔드", "진짜루")
+            .queryParam("hashtagMatch", "ANY")
+            .queryParam("size", 2)
+            .queryParam("cursor", 7)
+
+        .when()
+            .get("/community/question")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(1))
+            .body("articles[0].id", equalTo(6))
+            .body("nextCursor", nullValue());
+    }
+
+    @Test
+    void 색인에_남은_삭제된_글은_건너뛰고_페이지를_채운다() {
+        // 삭제는 커밋됐지만 아직 색인에서 빠지지 않은 글
+        jdbcTemplate.update("update article set deleted = now() where id = 8");
+
+        given()
+            .queryParam("hashtag", "스프링", "백엔드", "진짜루")
+            .queryParam("hashtagMatch", "ANY")
+            .queryParam("size", 2)
+
+        .when()
+            .get("/community/question")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(2))
+            .body("articles[0].id", equalTo(7))
+            .body("articles[1].id", equalTo(6))
+            .body("nextCursor", nullValue());
+    }
+
+    @Test
+    void 삭제된_해시태그로는_조회되지_않는다() {
+
+        given()
+            .queryParam("hashtag", "삭제된태그")
+
+        .when()
+            .get("/community/question")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(0));
+    }
+
+    @Test
+    void 수정한_해시태그로_자유게시판_글을_조회한다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+
+        given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .pathParam("id", 11)
+            .body(Map.of("title", "취업하고싶어효", "content", "어떻게하면되나요",
+                "hashtags", List.of("취업")))
+            .put("/community/playground/{id}")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        given()
+            .queryParam("hashtag", "팥")
+
+        .when()
+            .get("/community/playground")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(0));
+
+        given(documentationSpec)
+            .queryParam("hashtag", "취업")
+
+        .when()
+            .get("/community/playground")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articles.size()", is(1))
+            .body("articles[0].id", equalTo(11))
+            .body("articles[0].hashtags[0]", equalTo("취업"));
+    }
+
+    @Test
+    void 해시태그_조건이_올바르지_않은_경우_예외를_발생시킨다() {
+
+        given(documentationSpec)
+            .queryParam("hashtag", "SPRING")
+            .queryParam("hashtagMatch", "NONE")
+
+        .when()
+            .get("/community/gathering")
+
+        .then()
+            .statusCode(CommonExceptionType.INCORRECT_REQUEST_VALUE.getStatus().value())
+            .body("errorCode", equalTo(CommonExceptionType.INCORRECT_REQUEST_VALUE.getErrorCode()));
+    }
+}
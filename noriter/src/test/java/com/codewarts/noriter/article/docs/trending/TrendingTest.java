@@ -0,0 +1,193 @@
+package com.codewarts.noriter.article.docs.trending;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.codewarts.noriter.article.docs.InitIntegrationRestDocsTest;
+import com.codewarts.noriter.article.search.ArticleSearchIndex;
+import com.codewarts.noriter.article.search.TrendingIndex;
+import com.codewarts.noriter.article.service.ArticleSearchService;
+import com.codewarts.noriter.article.service.TrendingService;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("인기 게시글 조회 기능 통합 테스트")
+class TrendingTest extends InitIntegrationRestDocsTest {
+
+    @Autowired
+    ArticleSearchService articleSearchService;
+    @Autowired
+    TrendingService trendingService;
+    @Autowired
+    TrendingIndex trendingIndex;
+    @Autowired
+    ArticleSearchIndex articleSearchIndex;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void rebuildIndex() {
+        articleSearchService.rebuild();
+    }
+
+    @Test
+    void 찜과_댓글이_많은_순서로_인기_게시글을_조회한다() {
+        String accessToken = jwtProvider.issueAccessToken(1L);
+        wish(accessToken, 2);
+        wish(accessToken, 5);
+        comment(jwtProvider.issueAccessToken(2L), 5);
+
+        given(documentationSpec)
+            .queryParam("size", 10)
+
+        .when()
+            .get("/community/gathering/trending")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(2))
+            .body("[0].id", equalTo(5))
+            .body("[0].articleType", equalTo("GATHERING"))
+            .body("[0].title", equalTo("테스트를 해볼것이당4"))
+            .body("[0].writerNickname", equalTo("admin1"))
+            .body("[1].id", equalTo(2));
+
+        given()
+
+        .when()
+            .get("/community/question/trending")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(0));
+    }
+
+    @Test
+    void 찜을_취소하면_인기_게시글에서_빠진다() {
+        String accessToken = jwtProvider.issueAccessToken(1L);
+        wish(accessToken, 2);
+
+        given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("articleId", 2))
+            .delete("/wish")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        given()
+
+        .when()
+            .get("/community/gathering/trending")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(0));
+    }
+
+    @Test
+    void 삭제된_게시글은_인기_게시글에서_빠진다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+        comment(accessToken, 11);
+        comment(accessToken, 12);
+
+        given()
+            .header(AUTHORIZATION, accessToken)
+            .pathParam("id", 12)
+            .delete("/community/playground/{id}")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        given(documentationSpec)
+
+        .when()
+            .get("/community/playground/trending")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(1))
+            .body("[0].id", equalTo(11));
+    }
+
+    @Test
+    void 재기동하면_최근_찜과_댓글로_인기_게시글을_다시_채운다() {
+        String accessToken = jwtProvider.issueAccessToken(1L);
+        wish(accessToken, 2);
+        wish(accessToken, 5);
+        comment(jwtProvider.issueAccessToken(2L), 5);
+
+        // 드라이버에 따라 시각이 초 단위로 반올림되어 재구성 시작 시각보다 늦게 저장될 수 있어 한 시간 전으로 옮긴다.
+        LocalDateTime anHourAgo = LocalDateTime.now().minusHours(1);
+        jdbcTemplate.update("update wish set created_time = ? where created_time is not null",
+            anHourAgo);
+        jdbcTemplate.update("update comment set created_time = ? where article_id = 5",
+            anHourAgo);
+
+        // 메모리에 있던 순위를 잃은 상태에서 기동 시 재구성을 실행한다.
+        trendingIndex.clear();
+        trendingService.rebuild();
+
+        given()
+
+        .when()
+            .get("/community/gathering/trending")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(2))
+            .body("[0].id", equalTo(5))
+            .body("[1].id", equalTo(2));
+    }
+
+    @Test
+    void 순위_상위_게시글이_걸러져도_요청한_개수를_채운다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+        comment(accessToken, 11);
+        comment(accessToken, 12);
+        comment(accessToken, 12);
+
+        // 순위에는 남았지만 검색 색인에서는 빠진 게시글
+        articleSearchIndex.remove(12L);
+
+        given()
+            .queryParam("size", 1)
+
+        .when()
+            .get("/community/playground/trending")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", is(1))
+            .body("[0].id", equalTo(11));
+    }
+
+    private void wish(String accessToken, int articleId) {
+        given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("articleId", articleId))
+            .post("/wish")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+    }
+
+    private void comment(String accessToken, int articleId) {
+        given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .pathParam("articleId", articleId)
+            .body(Map.of("content", "댓글이에요", "secret", "false"))
+            .post("/{articleId}/comment")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+    }
+}
@@ -0,0 +1,114 @@
+package com.codewarts.noriter.article.docs.wish;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.codewarts.noriter.article.docs.InitIntegrationRestDocsTest;
+import com.codewarts.noriter.exception.type.ArticleExceptionType;
+import com.codewarts.noriter.exception.type.CommonExceptionType;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("찜 상태 변경 기능 통합 테스트")
+public class WishChangeTest extends InitIntegrationRestDocsTest {
+
+    @Test
+    void 찜_상태를_바꾸고_바뀌었는지_응답한다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("articleId", 4, "wished", true))
+
+        .when()
+            .put("/wish")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("articleId", equalTo(4))
+            .body("wished", equalTo(true))
+            .body("changed", equalTo(true));
+    }
+
+    @Test
+    void 같은_상태로_다시_요청하면_바뀌지_않았다고_응답한다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+
+        given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("articleId", 3, "wished", true))
+
+        .when()
+            .put("/wish")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("changed", equalTo(false));
+
+        given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("articleId", 2, "wished", false))
+
+        .when()
+            .put("/wish")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("changed", equalTo(false));
+
+        given()
+            .pathParam("id", 3)
+
+        .when()
+            .get("/community/gathering/{id}")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("wishCount", equalTo(1));
+    }
+
+    @Test
+    void 찜_여부가_비어있는_경우_예외를_발생시킨다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("articleId", 4);
+        requestBody.put("wished", null);
+
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(requestBody)
+
+        .when()
+            .put("/wish")
+
+        .then()
+            .statusCode(CommonExceptionType.INVALID_REQUEST.getStatus().value())
+            .body("errorCode", equalTo(CommonExceptionType.INVALID_REQUEST.getErrorCode()));
+    }
+
+    @Test
+    void articleId가_존재하지_않는_경우_예외를_발생시킨다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("articleId", 999999, "wished", false))
+
+        .when()
+            .put("/wish")
+
+        .then()
+            .statusCode(ArticleExceptionType.ARTICLE_NOT_FOUND.getStatus().value())
+            .body("errorCode", equalTo(ArticleExceptionType.ARTICLE_NOT_FOUND.getErrorCode()));
+    }
+}
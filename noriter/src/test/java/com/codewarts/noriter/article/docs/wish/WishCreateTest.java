@@ -33,6 +33,33 @@ public class WishCreateTest extends InitIntegrationRestDocsTest {
             .statusCode(HttpStatus.OK.value());
     }
 
+    @Test
+    void 찜을_등록하면_게시글의_찜_수가_증가한다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+
+        given()
+            .pathParam("id", 4)
+            .get("/community/gathering/{id}")
+            .then()
+            .body("wishCount", equalTo(0));
+
+        given()
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Collections.singletonMap("articleId", 4))
+            .post("/wish");
+
+        given()
+            .pathParam("id", 4)
+
+        .when()
+            .get("/community/gathering/{id}")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("wishCount", equalTo(1));
+    }
+
     @Test
     void articleId가_null인_경우_예외를_발생시킨다() {
         String accessToken = jwtProvider.issueAccessToken(2L);
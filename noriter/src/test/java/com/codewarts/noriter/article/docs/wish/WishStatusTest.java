@@ -0,0 +1,111 @@
+package com.codewarts.noriter.article.docs.wish;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.codewarts.noriter.article.docs.InitIntegrationRestDocsTest;
+import com.codewarts.noriter.exception.type.CommonExceptionType;
+import com.codewarts.noriter.wish.dto.WishStatusRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("찜 여부 일괄 조회 기능 통합 테스트")
+public class WishStatusTest extends InitIntegrationRestDocsTest {
+
+    @Test
+    void 요청한_게시글_중_찜한_게시글_ID를_조회한다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("articleIds", List.of(10, 2, 3, 999999, 1, 3)))
+
+        .when()
+            .post("/wish/status")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("wishedArticleIds", contains(10, 3, 1));
+    }
+
+    @Test
+    void 찜한_게시글이_없으면_빈_목록을_응답한다() {
+        String accessToken = jwtProvider.issueAccessToken(1L);
+
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("articleIds", List.of(1, 3)))
+
+        .when()
+            .post("/wish/status")
+
+        .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("wishedArticleIds", empty());
+    }
+
+    @Test
+    void 게시글_ID_목록이_비어있는_경우_예외를_발생시킨다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("articleIds", List.of()))
+
+        .when()
+            .post("/wish/status")
+
+        .then()
+            .statusCode(CommonExceptionType.INVALID_REQUEST.getStatus().value())
+            .body("errorCode", equalTo(CommonExceptionType.INVALID_REQUEST.getErrorCode()));
+    }
+
+    @Test
+    void 게시글_ID가_너무_많은_경우_예외를_발생시킨다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+        List<Long> articleIds = LongStream.rangeClosed(1, WishStatusRequest.MAX_ARTICLE_IDS + 1)
+            .boxed()
+            .collect(Collectors.toList());
+
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("articleIds", articleIds))
+
+        .when()
+            .post("/wish/status")
+
+        .then()
+            .statusCode(CommonExceptionType.INVALID_REQUEST.getStatus().value())
+            .body("errorCode", equalTo(CommonExceptionType.INVALID_REQUEST.getErrorCode()));
+    }
+
+    @Test
+    void 게시글_ID가_양수가_아닌_경우_예외를_발생시킨다() {
+        String accessToken = jwtProvider.issueAccessToken(2L);
+
+        given(documentationSpec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .header(AUTHORIZATION, accessToken)
+            .body(Map.of("articleIds", List.of(1, -3)))
+
+        .when()
+            .post("/wish/status")
+
+        .then()
+            .statusCode(CommonExceptionType.INVALID_REQUEST.getStatus().value())
+            .body("errorCode", equalTo(CommonExceptionType.INVALID_REQUEST.getErrorCode()));
+    }
+}
@@ -0,0 +1,176 @@
+package com.codewarts.noriter.article.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.domain.type.StatusType;
+import com.codewarts.noriter.article.repository.ArticleRepository;
+import com.codewarts.noriter.article.repository.HashtagRepository;
+import com.codewarts.noriter.article.repository.TagRepository;
+import com.codewarts.noriter.article.repository.TagUsageRepository;
+import com.codewarts.noriter.auth.oauth.type.ResourceServer;
+import com.codewarts.noriter.comment.repository.CommentRepository;
+import com.codewarts.noriter.config.DatabaseCleanup;
+import com.codewarts.noriter.config.QueryCapture;
+import com.codewarts.noriter.config.TestConfig;
+import com.codewarts.noriter.member.repository.MemberRepository;
+import com.codewarts.noriter.wish.repository.WishRepository;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql("classpath:/data.sql")
+@Import({TestConfig.class, QueryCapture.Config.class})
+class QueryPlanTest {
+
+    // 조인에서 먼저 읽히는 회원(2명)과 인기 해시태그 집계(20건). 키는 Hibernate 별칭에서 번호를 뗀 이름이다.
+    private static final Set<String> SCAN_ALLOWED_TABLES = Set.of("member", "tagusage");
+    private static final long SCAN_ALLOWED_MAX_ROWS = 100;
+
+    @Autowired
+    DatabaseCleanup databaseCleanup;
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    QueryCapture queryCapture;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ArticleRepository articleRepository;
+    @Autowired
+    HashtagRepository hashtagRepository;
+    @Autowired
+    TagRepository tagRepository;
+    @Autowired
+    TagUsageRepository tagUsageRepository;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    WishRepository wishRepository;
+    @Autowired
+    MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // EXPLAIN 결과 형식이 MySQL 기준이므로 다른 DB에서는 건너뛴다.
+        assumeTrue(isMySql());
+    }
+
+    @AfterEach
+    void cleanup() {
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.execute();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 쿼리는 풀 테이블 스캔을 하지 않는다.")
+    void articleListQueries() {
+        assertNoFullTableScan(() -> {
+            articleRepository.findAllGatheringList(StatusType.INCOMPLETE, null, 21);
+            articleRepository.findAllGatheringList(null, 5L, 21);
+            articleRepository.findAllQuestionList(StatusType.COMPLETE, null, 21);
+            articleRepository.findAllPlaygroundList(null, 21);
+            articleRepository.findSearchRows(0L, 1000);
+            articleRepository.findListRowsByIds(List.of(1L, 3L, 5L));
+        });
+    }
+
+    @Test
+    @DisplayName("해시태그 조회 쿼리는 풀 테이블 스캔을 하지 않는다.")
+    void hashtagQueries() {
+        assertNoFullTableScan(() -> {
+            hashtagRepository.findContentsByArticleIds(List.of(1L, 6L, 10L));
+            hashtagRepository.findContentsByArticleId(1L);
+            hashtagRepository.findArticleIdsByTagName("SPRING");
+        });
+    }
+
+    @Test
+    @DisplayName("해시태그 사전과 인기 해시태그 조회 쿼리는 풀 테이블 스캔을 하지 않는다.")
+    void tagQueries() {
+        assertNoFullTableScan(() -> {
+            // 잠금 읽기는 트랜잭션 안에서만 실행된다.
+            transactionTemplate.executeWithoutResult(
+                status -> tagRepository.findLockedByName("SPRING"));
+            tagUsageRepository.findPopular(ArticleType.QUESTION, PageRequest.of(0, 50));
+        });
+    }
+
+    @Test
+    @DisplayName("댓글 트리 조회 쿼리는 풀 테이블 스캔을 하지 않는다.")
+    void commentTreeQuery() {
+        assertNoFullTableScan(() -> commentRepository.findAllWithWriterByArticleId(1L));
+    }
+
+    @Test
+    @DisplayName("찜 조회 쿼리는 풀 테이블 스캔을 하지 않는다.")
+    void wishQueries() {
+        assertNoFullTableScan(() -> {
+            wishRepository.findWishedArticleIds(2L, List.of(1L, 3L, 10L));
+            wishRepository.findArticleIdsByMemberId(2L);
+            articleRepository.findArticleTypeById(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("로그인 회원 조회 쿼리는 풀 테이블 스캔을 하지 않는다.")
+    void memberLoginQuery() {
+        assertNoFullTableScan(
+            () -> memberRepository.findByResourceServerAndResourceServerId(ResourceServer.GITHUB,
+                111111L));
+    }
+
+    private void assertNoFullTableScan(Runnable queries) {
+        List<String> selects = queryCapture.capture(queries).stream()
+            .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+            .collect(Collectors.toList());
+        assertThat(selects).isNotEmpty();
+
+        for (String sql : selects) {
+            List<String> fullScans = jdbcTemplate.queryForList("EXPLAIN " + sql).stream()
+                .filter(row -> "ALL".equals(row.get("type")))
+                .filter(row -> !isAllowedScan(row))
+                .map(row -> row.get("table") + " (possible_keys=" + row.get("possible_keys") + ")")
+                .collect(Collectors.toList());
+            assertThat(fullScans).as("full table scan in: %s", sql).isEmpty();
+        }
+    }
+
+    // 테스트 데이터가 몇 줄뿐인 테이블은 인덱스가 있어도 옵티마이저가 스캔을 고른다.
+    // 허용 목록에 있는 테이블이면서 예상 행 수가 작을 때만 스캔을 허용한다.
+    private boolean isAllowedScan(Map<String, Object> row) {
+        String table = String.valueOf(row.get("table")).replaceAll("\\d+_$", "");
+        Object rows = row.get("rows");
+        return SCAN_ALLOWED_TABLES.contains(table) && rows != null
+            && Long.parseLong(String.valueOf(rows)) <= SCAN_ALLOWED_MAX_ROWS;
+    }
+
+    private boolean isMySql() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName().toLowerCase();
+            return product.contains("mysql") || product.contains("mariadb");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.codewarts.noriter.article.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codewarts.noriter.article.cache.ArticleDetailCache;
+import com.codewarts.noriter.article.dto.playground.PlaygroundDetailResponse;
+import com.codewarts.noriter.config.DatabaseCleanup;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql("classpath:/data.sql")
+class ArticleDetailCacheTest {
+
+    private static final LocalDateTime LAST_MODIFIED_TIME = LocalDateTime.of(2022, 11, 11, 16, 25);
+
+    @Autowired
+    DatabaseCleanup databaseCleanup;
+    @Autowired
+    ArticleDetailCache articleDetailCache;
+
+    @AfterEach
+    void cleanup() {
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.execute();
+    }
+
+    @DisplayName("비우면 다음 조회는 새로 적재한다.")
+    @Test
+    void reloadAfterEvict() {
+        PlaygroundDetailResponse cached = new PlaygroundDetailResponse();
+        PlaygroundDetailResponse reloaded = new PlaygroundDetailResponse();
+
+        articleDetailCache.get(1L, LAST_MODIFIED_TIME, () -> cached);
+        assertThat(articleDetailCache.get(1L, LAST_MODIFIED_TIME, () -> reloaded)).isSameAs(cached);
+
+        articleDetailCache.evict(1L);
+        assertThat(articleDetailCache.get(1L, LAST_MODIFIED_TIME, () -> reloaded))
+            .isSameAs(reloaded);
+    }
+
+    @DisplayName("적재하는 동안 비워진 게시글은 그 적재 값을 다음 조회에 쓰지 않는다.")
+    @Test
+    void discardLoadStartedBeforeEvict() {
+        PlaygroundDetailResponse stale = new PlaygroundDetailResponse();
+        PlaygroundDetailResponse reloaded = new PlaygroundDetailResponse();
+
+        // 이전 데이터를 읽은 뒤, 값을 저장하기 전에 다른 요청의 댓글 작성이 커밋되어 비운다.
+        articleDetailCache.get(1L, LAST_MODIFIED_TIME, () -> {
+            articleDetailCache.evict(1L);
+            return stale;
+        });
+
+        assertThat(articleDetailCache.get(1L, LAST_MODIFIED_TIME, () -> reloaded))
+            .isSameAs(reloaded);
+    }
+}
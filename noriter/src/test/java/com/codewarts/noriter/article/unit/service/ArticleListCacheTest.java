@@ -0,0 +1,71 @@
+package com.codewarts.noriter.article.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codewarts.noriter.article.cache.ArticleListCache;
+import com.codewarts.noriter.article.cache.ArticleListPage;
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.config.DatabaseCleanup;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql("classpath:/data.sql")
+class ArticleListCacheTest {
+
+    @Autowired
+    DatabaseCleanup databaseCleanup;
+    @Autowired
+    ArticleListCache articleListCache;
+
+    @AfterEach
+    void cleanup() {
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.execute();
+    }
+
+    @DisplayName("비우면 그 게시판의 다음 조회는 새로 적재한다.")
+    @Test
+    void reloadAfterEvict() {
+        ArticleListPage cached = emptyPage();
+        ArticleListPage reloaded = emptyPage();
+
+        articleListCache.get(ArticleType.QUESTION, null, null, 10, () -> cached);
+        articleListCache.get(ArticleType.GATHERING, null, null, 10, () -> cached);
+
+        articleListCache.evict(ArticleType.QUESTION);
+        assertThat(articleListCache.get(ArticleType.QUESTION, null, null, 10, () -> reloaded))
+            .isSameAs(reloaded);
+        assertThat(articleListCache.get(ArticleType.GATHERING, null, null, 10, () -> reloaded))
+            .isSameAs(cached);
+    }
+
+    @DisplayName("적재하는 동안 비워진 게시판은 그 적재 값을 저장하지 않는다.")
+    @Test
+    void discardLoadStartedBeforeEvict() {
+        ArticleListPage stale = emptyPage();
+        ArticleListPage reloaded = emptyPage();
+
+        // 이전 목록을 읽은 뒤, 값을 저장하기 전에 다른 요청의 게시글 작성이 커밋되어 비운다.
+        ArticleListPage loaded = articleListCache.get(ArticleType.QUESTION, null, null, 10, () -> {
+            articleListCache.evict(ArticleType.QUESTION);
+            return stale;
+        });
+
+        assertThat(loaded).isSameAs(stale);
+        assertThat(articleListCache.get(ArticleType.QUESTION, null, null, 10, () -> reloaded))
+            .isSameAs(reloaded);
+    }
+
+    private ArticleListPage emptyPage() {
+        return ArticleListPage.of(List.of(), Map.of());
+    }
+}
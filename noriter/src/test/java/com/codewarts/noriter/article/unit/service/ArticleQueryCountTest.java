@@ -0,0 +1,127 @@
+package com.codewarts.noriter.article.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codewarts.noriter.article.cache.ArticleDetailCache;
+import com.codewarts.noriter.article.cache.ArticleListCache;
+import com.codewarts.noriter.article.domain.type.HashtagMatchType;
+import com.codewarts.noriter.article.dto.article.ArticlePageResponse;
+import com.codewarts.noriter.article.service.ArticleSearchService;
+import com.codewarts.noriter.article.service.GatheringService;
+import com.codewarts.noriter.article.service.PlaygroundService;
+import com.codewarts.noriter.article.service.QuestionService;
+import com.codewarts.noriter.config.DatabaseCleanup;
+import com.codewarts.noriter.config.QueryCapture;
+import com.codewarts.noriter.config.TestConfig;
+import com.codewarts.noriter.wish.cache.MemberWishCache;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql("classpath:/data.sql")
+@Import({TestConfig.class, QueryCapture.Config.class})
+class ArticleQueryCountTest {
+
+    private static final int SMALL_PAGE = 1;
+    private static final int LARGE_PAGE = 10;
+
+    @Autowired
+    DatabaseCleanup databaseCleanup;
+    @Autowired
+    QueryCapture queryCapture;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    ArticleListCache articleListCache;
+    @Autowired
+    ArticleDetailCache articleDetailCache;
+    @Autowired
+    MemberWishCache memberWishCache;
+    @Autowired
+    ArticleSearchService articleSearchService;
+
+    @Autowired
+    GatheringService gatheringService;
+    @Autowired
+    QuestionService questionService;
+    @Autowired
+    PlaygroundService playgroundService;
+
+    @BeforeEach
+    void rebuildIndex() {
+        articleSearchService.rebuild();
+    }
+
+    @AfterEach
+    void cleanup() {
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.execute();
+    }
+
+    @DisplayName("목록 조회의 쿼리 수는 페이지 크기가 커져도 같다.")
+    @Test
+    void listQueryCountIndependentOfPageSize() {
+        assertSameQueryCount(size -> gatheringService.findList(null, null, size, 2L));
+        assertSameQueryCount(size -> questionService.findList(null, null, size, 2L));
+        assertSameQueryCount(size -> playgroundService.findList(null, size, 2L));
+        assertSameQueryCount(size -> questionService.findList(null,
+            List.of("스프링", "코드스쿼드", "필 최고"), HashtagMatchType.ANY, null, size, 2L));
+    }
+
+    @DisplayName("상세 조회의 쿼리 수는 댓글과 대댓글이 늘어도 같다.")
+    @Test
+    void detailQueryCountIndependentOfCommentCount() {
+        insertComment(100L, 1L, null);
+        insertComment(101L, 2L, 100L);
+        List<String> few = captureUncached(() -> gatheringService.findDetail(2L, 2L));
+
+        // 작성자가 다른 댓글과 대댓글을 더 달아 댓글마다 작성자나 대댓글을 읽는지 드러나게 한다.
+        for (long id = 102; id < 122; id += 2) {
+            insertComment(id, id % 4 == 0 ? 1L : 2L, null);
+            insertComment(id + 1, id % 4 == 0 ? 2L : 1L, id);
+        }
+        List<String> many = captureUncached(() ->
+            assertThat(gatheringService.findDetail(2L, 2L).getComment()).hasSize(11));
+
+        assertThat(few).isNotEmpty();
+        assertThat(many).as("few comments: %s%nmany comments: %s", few, many)
+            .hasSameSizeAs(few);
+    }
+
+    private void insertComment(Long id, Long writerId, Long parentId) {
+        jdbcTemplate.update("insert into comment (id, content, deleted, secret, writer_id, "
+                + "article_id, parent_id, created_time, last_modified_time) "
+                + "values (?, '댓글', false, false, ?, 2, ?, now(), now())",
+            id, writerId, parentId);
+    }
+
+    private void assertSameQueryCount(IntFunction<ArticlePageResponse> findList) {
+        List<String> small = captureUncached(() -> findList.apply(SMALL_PAGE));
+        List<String> large = captureUncached(() -> {
+            // 큰 페이지에 게시글이 여러 개여야 게시글마다 쿼리가 나가는지 드러난다.
+            assertThat(findList.apply(LARGE_PAGE).getArticles()).hasSizeGreaterThan(SMALL_PAGE + 1);
+        });
+        assertThat(small).isNotEmpty();
+        assertThat(large).as("small page: %s%nlarge page: %s", small, large)
+            .hasSameSizeAs(small);
+    }
+
+    // 캐시된 페이지, 상세나 찜 목록 없이 매번 DB 에서 읽은 쿼리를 모은다.
+    private List<String> captureUncached(Runnable runnable) {
+        articleListCache.clear();
+        articleDetailCache.clear();
+        memberWishCache.clear();
+        return queryCapture.capture(runnable);
+    }
+}
@@ -0,0 +1,84 @@
+package com.codewarts.noriter.article.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codewarts.noriter.article.domain.type.ArticleType;
+import com.codewarts.noriter.article.dto.search.ArticleSearchRow;
+import com.codewarts.noriter.article.search.ArticleSearchIndex;
+import com.codewarts.noriter.config.DatabaseCleanup;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql("classpath:/data.sql")
+class ArticleSearchIndexTest {
+
+    @Autowired
+    DatabaseCleanup databaseCleanup;
+    @Autowired
+    ArticleSearchIndex articleSearchIndex;
+
+    @AfterEach
+    void cleanup() {
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.execute();
+    }
+
+    @DisplayName("재구성하는 동안에는 기존 색인으로 검색하고, 그동안 커밋된 변경은 교체한 색인에 남는다.")
+    @Test
+    void keepChangesCommittedDuringRebuild() {
+        articleSearchIndex.put(row(1L, "스프링 스터디"));
+        articleSearchIndex.put(row(2L, "스프링 질문"));
+
+        try (ArticleSearchIndex.Rebuild rebuild = articleSearchIndex.startRebuild()) {
+            // 재구성이 DB 에서 읽은 시점의 게시글
+            rebuild.put(row(1L, "스프링 스터디"));
+            rebuild.put(row(2L, "스프링 질문"));
+            assertThat(searchIds("스프링")).containsExactlyInAnyOrder(1L, 2L);
+
+            // 재구성이 읽은 뒤에 커밋된 수정, 삭제, 작성
+            articleSearchIndex.put(row(1L, "자바 스터디"));
+            articleSearchIndex.remove(2L);
+            articleSearchIndex.put(row(3L, "스프링 모임"));
+            assertThat(searchIds("스프링")).containsExactly(3L);
+
+            rebuild.complete();
+        }
+
+        assertThat(searchIds("스프링")).containsExactly(3L);
+        assertThat(searchIds("자바")).containsExactly(1L);
+    }
+
+    @DisplayName("재구성이 끝나지 않으면 기존 색인을 그대로 쓴다.")
+    @Test
+    void keepIndexWhenRebuildFails() {
+        articleSearchIndex.put(row(1L, "스프링 스터디"));
+
+        try (ArticleSearchIndex.Rebuild rebuild = articleSearchIndex.startRebuild()) {
+            rebuild.put(row(2L, "스프링 질문"));
+        }
+        articleSearchIndex.put(row(3L, "스프링 모임"));
+
+        assertThat(searchIds("스프링")).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    private List<Long> searchIds(String query) {
+        return articleSearchIndex.search(query, null, 10).stream()
+            .map(ArticleSearchRow::getId)
+            .collect(Collectors.toList());
+    }
+
+    private ArticleSearchRow row(Long id, String title) {
+        return new ArticleSearchRow(id, ArticleType.QUESTION, null, title, "내용", 1L, "닉네임",
+            LocalDateTime.of(2022, 11, 11, 16, 25));
+    }
+}
@@ -8,6 +8,7 @@ import static com.codewarts.noriter.exception.type.MemberExceptionType.MEMBER_NO
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.codewarts.noriter.article.cache.ArticleListCache;
 import com.codewarts.noriter.article.domain.Article;
 import com.codewarts.noriter.article.domain.type.StatusType;
 import com.codewarts.noriter.article.dto.article.ArticleListResponse;
@@ -23,6 +24,8 @@ import com.codewarts.noriter.exception.type.ArticleExceptionType;
 import com.codewarts.noriter.exception.type.MemberExceptionType;
 import com.codewarts.noriter.member.domain.Member;
 import com.codewarts.noriter.member.repository.MemberRepository;
+import com.codewarts.noriter.wish.cache.MemberWishCache;
+import com.codewarts.noriter.wish.service.WishService;
 import java.util.List;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.AfterEach;
@@ -47,14 +50,20 @@ class GatheringServiceTest {
     ArticleRepository articleRepository;
     @Autowired
     MemberRepository memberRepository;
+    @Autowired
+    WishService wishService;
+    @Autowired
+    MemberWishCache memberWishCache;
+    @Autowired
+    ArticleListCache articleListCache;
 
     private final Long NON_EXIST_INDEX = Long.MAX_VALUE;
+    private final int PAGE_SIZE = 20;
     private Long writerId;
 
     @BeforeEach
     void setUp() {
-        Member member = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null,
-            null);
+        Member member = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null);
         writerId = memberRepository.save(member).getId();
     }
 
@@ -153,7 +162,8 @@ class GatheringServiceTest {
         gatheringService.create(request2, writerId);
 
         // when
-        List<ArticleListResponse> list = gatheringService.findList(null, null);
+        List<ArticleListResponse> list = gatheringService.findList(null, null, PAGE_SIZE, null)
+            .getArticles();
 
         // then
         assertThat(list).hasSize(2);
@@ -172,7 +182,8 @@ class GatheringServiceTest {
         gatheringService.create(request2, writerId);
 
         // when
-        List<ArticleListResponse> list = gatheringService.findList(StatusType.INCOMPLETE, null);
+        List<ArticleListResponse> list = gatheringService.findList(StatusType.INCOMPLETE, null,
+            PAGE_SIZE, null).getArticles();
 
         // then
         assertThat(list).hasSize(2);
@@ -197,10 +208,68 @@ class GatheringServiceTest {
         gatheringService.delete(deleteArticleId, writerId);
 
         // when
-        List<ArticleListResponse> list = gatheringService.findList(null,null);
+        List<ArticleListResponse> list = gatheringService.findList(null, null, PAGE_SIZE, null)
+            .getArticles();
+
+        // then
+        assertThat(list).hasSize(2);
+    }
+
+    @DisplayName("스터디게시판 글 목록에 조회한 회원의 찜 여부를 게시글마다 표시한다.")
+    @Test
+    void findListWithWishFlags() {
+        // given
+        Long wishedId1 = gatheringService.create(
+            new GatheringCreateRequest("테스트 제목1", "테스트 내용1", null), writerId);
+        Long notWishedId = gatheringService.create(
+            new GatheringCreateRequest("테스트 제목2", "테스트 내용2", null), writerId);
+        Long wishedId2 = gatheringService.create(
+            new GatheringCreateRequest("테스트 제목3", "테스트 내용3", null), writerId);
+
+        Member viewer = new Member(ResourceServer.GITHUB, 2L, "viewer", "viewer@code.com", null);
+        Long viewerId = memberRepository.save(viewer).getId();
+        // 테스트 트랜잭션은 커밋되지 않아 캐시가 비워지지 않고, 정리 후 같은 ID 가 다시 쓰이므로
+        // 이전 테스트에서 적재한 목록과 찜 목록을 비운다.
+        articleListCache.clear();
+        memberWishCache.clear();
+        wishService.create(viewerId, wishedId1);
+        wishService.create(viewerId, wishedId2);
+
+        // when
+        List<ArticleListResponse> list = gatheringService.findList(null, null, PAGE_SIZE,
+            viewerId).getArticles();
+
+        // then
+        assertThat(list).extracting(ArticleListResponse::getId)
+            .containsExactly(wishedId2, notWishedId, wishedId1);
+        assertThat(list).extracting(ArticleListResponse::isWish)
+            .containsExactly(true, false, true);
+        assertThat(list).extracting(ArticleListResponse::isSameWriter)
+            .containsExactly(false, false, false);
+    }
+
+    @DisplayName("로그인하지 않고 스터디게시판 글 목록을 조회하면 찜한 글이 있어도 찜 여부는 모두 false 다.")
+    @Test
+    void findListWithoutMemberThenNoWishFlags() {
+        // given
+        Long wishedId = gatheringService.create(
+            new GatheringCreateRequest("테스트 제목1", "테스트 내용1", null), writerId);
+        gatheringService.create(
+            new GatheringCreateRequest("테스트 제목2", "테스트 내용2", null), writerId);
+        articleListCache.clear();
+        memberWishCache.clear();
+        wishService.create(writerId, wishedId);
+
+        // when
+        List<ArticleListResponse> list = gatheringService.findList(null, null, PAGE_SIZE, null)
+            .getArticles();
 
         // then
         assertThat(list).hasSize(2);
+        assertThat(list).extracting(ArticleListResponse::isWish)
+            .containsExactly(false, false);
+        assertThat(list).extracting(ArticleListResponse::isSameWriter)
+            .containsExactly(false, false);
     }
 
     @DisplayName("스터디게시판 글을 수정한다.")
@@ -268,8 +337,7 @@ class GatheringServiceTest {
     @Test
     void updateWithNotMatchedWriterThenThrow() {
         // when
-        Member newMember = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null,
-            null);
+        Member newMember = new Member(ResourceServer.GITHUB, 2L, "admin", "admin@code.com", null);
         Long wrongWriterId = memberRepository.save(newMember).getId();
 
         GatheringCreateRequest request = new GatheringCreateRequest("테스트 제목", "테스트 내용",
@@ -340,8 +408,7 @@ class GatheringServiceTest {
     @Test
     void deleteWithNotMatchedWriterIdThenThrow() {
         // when
-        Member newMember = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null,
-            null);
+        Member newMember = new Member(ResourceServer.GITHUB, 2L, "admin", "admin@code.com", null);
         Long wrongWriterId = memberRepository.save(newMember).getId();
 
         GatheringCreateRequest request = new GatheringCreateRequest("테스트 제목1", "테스트 내용1",
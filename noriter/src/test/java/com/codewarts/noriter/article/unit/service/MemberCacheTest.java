@@ -0,0 +1,62 @@
+package com.codewarts.noriter.article.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.codewarts.noriter.config.DatabaseCleanup;
+import com.codewarts.noriter.exception.GlobalNoriterException;
+import com.codewarts.noriter.exception.type.MemberExceptionType;
+import com.codewarts.noriter.member.cache.MemberCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql("classpath:/data.sql")
+class MemberCacheTest {
+
+    @Autowired
+    DatabaseCleanup databaseCleanup;
+    @Autowired
+    MemberCache memberCache;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanup() {
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.execute();
+    }
+
+    @DisplayName("한 번 확인한 회원은 다시 조회하지 않고, 비우면 새로 적재한다.")
+    @Test
+    void cachedUntilClear() {
+        assertThat(memberCache.getWriterInfo(1L).getNickname()).isEqualTo("admin1");
+
+        jdbcTemplate.update("update member set nickname = 'renamed' where id = 1");
+        assertThat(memberCache.getWriterInfo(1L).getNickname()).isEqualTo("admin1");
+
+        memberCache.clear();
+        assertThat(memberCache.getWriterInfo(1L).getNickname()).isEqualTo("renamed");
+    }
+
+    @DisplayName("없는 회원은 예외를 던지고 캐시하지 않아, 나중에 가입하면 바로 확인된다.")
+    @Test
+    void missingMemberNotCached() {
+        assertThatThrownBy(() -> memberCache.validateExists(3L))
+            .isInstanceOf(GlobalNoriterException.class)
+            .hasMessage(MemberExceptionType.MEMBER_NOT_FOUND.getErrorMessage());
+
+        jdbcTemplate.update("insert into member (id, nickname, resource_server, resource_server_id) "
+            + "values (3, 'admin3', 'GITHUB', 333333)");
+
+        assertThat(memberCache.getWriterInfo(3L).getNickname()).isEqualTo("admin3");
+        assertThat(memberCache.getReference(3L).getId()).isEqualTo(3L);
+    }
+}
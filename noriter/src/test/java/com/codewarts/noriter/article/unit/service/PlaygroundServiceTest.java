@@ -41,12 +41,12 @@ class PlaygroundServiceTest {
     MemberRepository memberRepository;
 
     private final Long NON_EXIST_INDEX = Long.MAX_VALUE;
+    private final int PAGE_SIZE = 20;
     private Long writerId;
 
     @BeforeEach
     void setUp() {
-        Member member = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null,
-            null);
+        Member member = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null);
         writerId = memberRepository.save(member).getId();
     }
 
@@ -146,7 +146,8 @@ class PlaygroundServiceTest {
         playgroundService.create(request2, writerId);
 
         // when
-        List<ArticleListResponse> list = playgroundService.findList(null);
+        List<ArticleListResponse> list = playgroundService.findList(null, PAGE_SIZE, null)
+            .getArticles();
 
         // then
         assertThat(list).hasSize(2);
@@ -171,7 +172,8 @@ class PlaygroundServiceTest {
         playgroundService.delete(deleteArticleId, writerId);
 
         // when
-        List<ArticleListResponse> list = playgroundService.findList(null);
+        List<ArticleListResponse> list = playgroundService.findList(null, PAGE_SIZE, null)
+            .getArticles();
 
         // then
         assertThat(list).hasSize(2);
@@ -242,8 +244,7 @@ class PlaygroundServiceTest {
     @Test
     void updateWithNotMatchedWriterThenThrow() {
         // when
-        Member newMember = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null,
-            null);
+        Member newMember = new Member(ResourceServer.GITHUB, 2L, "admin", "admin@code.com", null);
         Long wrongWriterId = memberRepository.save(newMember).getId();
 
         PlaygroundCreateRequest createRequest = new PlaygroundCreateRequest("테스트 제목", "테스트 내용",
@@ -314,8 +315,7 @@ class PlaygroundServiceTest {
     @Test
     void deleteWithNotMatchedWriterIdThenThrow() {
         // when
-        Member newMember = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null,
-            null);
+        Member newMember = new Member(ResourceServer.GITHUB, 2L, "admin", "admin@code.com", null);
         Long wrongWriterId = memberRepository.save(newMember).getId();
 
         PlaygroundCreateRequest createRequest = new PlaygroundCreateRequest("테스트 제목1", "테스트 내용1",
@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.codewarts.noriter.article.domain.Article;
 import com.codewarts.noriter.article.domain.type.StatusType;
 import com.codewarts.noriter.article.dto.article.ArticleListResponse;
+import com.codewarts.noriter.article.dto.article.ArticlePageResponse;
 import com.codewarts.noriter.article.dto.question.QuestionCreateRequest;
 import com.codewarts.noriter.article.dto.question.QuestionDetailResponse;
 import com.codewarts.noriter.article.dto.question.QuestionUpdateRequest;
@@ -43,12 +44,12 @@ class QuestionServiceTest {
     MemberRepository memberRepository;
 
     private final Long NON_EXIST_INDEX = Long.MAX_VALUE;
+    private final int PAGE_SIZE = 20;
     private Long writerId;
 
     @BeforeEach
     void setUp() {
-        Member member = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null,
-            null);
+        Member member = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null);
         writerId = memberRepository.save(member).getId();
     }
 
@@ -149,7 +150,8 @@ class QuestionServiceTest {
         questionService.create(request2, writerId);
 
         // when
-        List<ArticleListResponse> list = questionService.findList(null, writerId);
+        List<ArticleListResponse> list = questionService.findList(null, null, PAGE_SIZE, writerId)
+            .getArticles();
 
         // then
         assertThat(list).hasSize(2);
@@ -174,12 +176,68 @@ class QuestionServiceTest {
         questionService.delete(deleteArticleId, writerId);
 
         // when
-        List<ArticleListResponse> list = questionService.findList(null, writerId);
+        List<ArticleListResponse> list = questionService.findList(null, null, PAGE_SIZE, writerId)
+            .getArticles();
 
         // then
         assertThat(list).hasSize(2);
     }
 
+    @DisplayName("커서 이후의 질문 게시판 글을 최신순으로 조회한다.")
+    @Test
+    void findListWithCursor() {
+        // given
+        Long firstId = questionService.create(
+            new QuestionCreateRequest("테스트 제목1", "테스트 내용1", null), writerId);
+        Long secondId = questionService.create(
+            new QuestionCreateRequest("테스트 제목2", "테스트 내용2", null), writerId);
+        Long thirdId = questionService.create(
+            new QuestionCreateRequest("테스트 제목3", "테스트 내용3", null), writerId);
+
+        // when
+        ArticlePageResponse firstPage = questionService.findList(null, null, 2, writerId);
+        ArticlePageResponse secondPage = questionService.findList(null,
+            firstPage.getNextCursor(), 2, writerId);
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(firstPage.getArticles())
+                .extracting(ArticleListResponse::getId)
+                .containsExactly(thirdId, secondId);
+            softAssertions.assertThat(firstPage.getNextCursor()).isEqualTo(secondId);
+            softAssertions.assertThat(secondPage.getArticles())
+                .extracting(ArticleListResponse::getId)
+                .containsExactly(firstId);
+            softAssertions.assertThat(secondPage.getNextCursor()).isNull();
+        });
+    }
+
+    @DisplayName("캐시된 목록은 글이 생성, 수정되면 다시 조회된다.")
+    @Test
+    void findListAfterCacheInvalidation() {
+        // given
+        Long firstId = questionService.create(
+            new QuestionCreateRequest("테스트 제목1", "테스트 내용1", null), writerId);
+        questionService.findList(null, null, PAGE_SIZE, writerId);
+
+        // when
+        Long secondId = questionService.create(
+            new QuestionCreateRequest("테스트 제목2", "테스트 내용2", null), writerId);
+        questionService.update(firstId,
+            new QuestionUpdateRequest("수정된 제목", "수정된 내용", null), writerId);
+        List<ArticleListResponse> list = questionService.findList(null, null, PAGE_SIZE, null)
+            .getArticles();
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(list)
+                .extracting(ArticleListResponse::getId)
+                .containsExactly(secondId, firstId);
+            softAssertions.assertThat(list.get(1).getTitle()).isEqualTo("수정된 제목");
+            softAssertions.assertThat(list.get(0).isSameWriter()).isFalse();
+        });
+    }
+
     @DisplayName("질문 게시판 글을 수정한다.")
     @Test
     void update() {
@@ -246,8 +304,7 @@ class QuestionServiceTest {
     @Test
     void updateWithNotMatchedWriterThenThrow() {
         // when
-        Member newMember = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null,
-            null);
+        Member newMember = new Member(ResourceServer.GITHUB, 2L, "admin", "admin@code.com", null);
         Long wrongWriterId = memberRepository.save(newMember).getId();
 
         QuestionCreateRequest createRequest = new QuestionCreateRequest("테스트 제목", "테스트 내용",
@@ -341,8 +398,7 @@ class QuestionServiceTest {
     @Test
     void updateStatusWithNotMatchedWriterThenThrow() {
         // when
-        Member newMember = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null,
-            null);
+        Member newMember = new Member(ResourceServer.GITHUB, 2L, "admin", "admin@code.com", null);
         Long wrongWriterId = memberRepository.save(newMember).getId();
 
         QuestionCreateRequest createRequest = new QuestionCreateRequest("테스트 제목", "테스트 내용",
@@ -411,8 +467,7 @@ class QuestionServiceTest {
     @Test
     void deleteWithNotMatchedWriterIdThenThrow() {
         // when
-        Member newMember = new Member(ResourceServer.GITHUB, 1L, "admin", "admin@code.com", null,
-            null);
+        Member newMember = new Member(ResourceServer.GITHUB, 2L, "admin", "admin@code.com", null);
         Long wrongWriterId = memberRepository.save(newMember).getId();
 
         QuestionCreateRequest createRequest = new QuestionCreateRequest("테스트 제목1", "테스트 내용1",
@@ -0,0 +1,95 @@
+package com.codewarts.noriter.article.unit.service;
+
+import static com.codewarts.noriter.auth.utils.OAuthUtils.ACCESS_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.codewarts.noriter.auth.jwt.JwtProperties;
+import com.codewarts.noriter.auth.jwt.JwtProvider;
+import com.codewarts.noriter.auth.jwt.VerifiedTokenCache;
+import java.time.Instant;
+import java.util.Date;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class VerifiedTokenCacheTest {
+
+    @Autowired
+    VerifiedTokenCache verifiedTokenCache;
+    @Autowired
+    JwtProvider jwtProvider;
+    @Autowired
+    JwtProperties jwtProperties;
+
+    @AfterEach
+    void cleanup() {
+        verifiedTokenCache.clear();
+    }
+
+    @DisplayName("캐시한 토큰도 만료 시각이 지나면 돌려주지 않는다.")
+    @Test
+    void expiredTokenNotServed() throws InterruptedException {
+        String token = jwtProvider.issueAccessToken(1L);
+        verifiedTokenCache.put(token, 1L, Date.from(Instant.now().plusMillis(200)));
+        assertThat(verifiedTokenCache.get(token)).isEqualTo(1L);
+
+        Thread.sleep(300);
+
+        assertThat(verifiedTokenCache.get(token)).isNull();
+    }
+
+    @DisplayName("클레임이 같아도 서명이 다른 토큰은 캐시에서 찾지 못하고 다시 검증한다.")
+    @Test
+    void sameClaimsDifferentTokenMiss() {
+        String token = jwtProvider.issueAccessToken(1L);
+        assertThat(jwtProvider.verifyToken(token)).isEqualTo(1L);
+
+        // 헤더와 클레임은 그대로 두고 다른 키로 만든 서명을 붙인다.
+        String forgedSignature = signWith(Algorithm.HMAC256("other-secret-key"),
+            Date.from(Instant.now().plusSeconds(60)));
+        String forged = token.substring(0, token.lastIndexOf('.'))
+            + forgedSignature.substring(forgedSignature.lastIndexOf('.'));
+
+        assertThat(verifiedTokenCache.get(forged)).isNull();
+        assertThatThrownBy(() -> jwtProvider.verifyToken(forged))
+            .isInstanceOf(SignatureVerificationException.class);
+    }
+
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않아 다시 와도 검증에 실패한다.")
+    @Test
+    void failedTokenNeverCached() {
+        String wrongKey = signWith(Algorithm.HMAC256("other-secret-key"),
+            Date.from(Instant.now().plusSeconds(60)));
+        String expired = signWith(Algorithm.HMAC256(jwtProperties.getSecretKey()),
+            Date.from(Instant.now().minusSeconds(60)));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> jwtProvider.verifyToken(wrongKey))
+                .isInstanceOf(SignatureVerificationException.class);
+            assertThatThrownBy(() -> jwtProvider.verifyToken(expired))
+                .isInstanceOf(TokenExpiredException.class);
+        }
+        assertThat(verifiedTokenCache.get(wrongKey)).isNull();
+        assertThat(verifiedTokenCache.get(expired)).isNull();
+    }
+
+    private String signWith(Algorithm algorithm, Date expiresAt) {
+        return JWT.create()
+            .withIssuer(jwtProperties.getIssuer())
+            .withSubject(ACCESS_TOKEN)
+            .withAudience("1")
+            .withExpiresAt(expiresAt)
+            .withClaim("memberId", 1L)
+            .sign(algorithm);
+    }
+}
@@ -0,0 +1,163 @@
+package com.codewarts.noriter.article.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codewarts.noriter.article.repository.ArticleRepository;
+import com.codewarts.noriter.config.DatabaseCleanup;
+import com.codewarts.noriter.wish.counter.WishCountBuffer;
+import com.codewarts.noriter.wish.repository.WishCountCheckpointRepository;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql("classpath:/data.sql")
+class WishCountBufferTest {
+
+    @Autowired
+    DatabaseCleanup databaseCleanup;
+    @Autowired
+    ArticleRepository articleRepository;
+    @Autowired
+    WishCountCheckpointRepository checkpointRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path logDirectory;
+
+    private WishCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = startBuffer();
+    }
+
+    @AfterEach
+    void cleanup() {
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.execute();
+    }
+
+    @DisplayName("반영 전 찜 수 변화량은 조회 시 DB 의 찜 수에 더해지고, 반영하면 DB 로 옮겨진다.")
+    @Test
+    void pendingDeltaUntilFlush() {
+        buffer.add(2L, 1);
+        buffer.add(2L, 1);
+        buffer.add(3L, -1);
+
+        assertThat(wishCount(2L)).isZero();
+        assertThat(buffer.pendingDelta(2L)).isEqualTo(2);
+        assertThat(buffer.pendingDelta(3L)).isEqualTo(-1);
+
+        buffer.flush();
+
+        assertThat(wishCount(2L)).isEqualTo(2);
+        assertThat(wishCount(3L)).isZero();
+        assertThat(buffer.pendingDelta(2L)).isZero();
+        assertThat(buffer.pendingDelta(3L)).isZero();
+    }
+
+    @DisplayName("반영하지 못하고 종료되면 다음 기동 때 로그에서 변화량을 복구한다.")
+    @Test
+    void recoverAfterCrash() {
+        buffer.add(2L, 1);
+        buffer.add(4L, 1);
+        buffer.add(4L, 1);
+
+        // 반영이나 종료 처리 없이 같은 로그 디렉터리로 다시 기동한다.
+        startBuffer();
+
+        assertThat(wishCount(2L)).isEqualTo(1);
+        assertThat(wishCount(4L)).isEqualTo(2);
+    }
+
+    @DisplayName("이미 반영한 변화량은 복구 때 다시 반영하지 않는다.")
+    @Test
+    void recoverOnlyUnflushed() {
+        buffer.add(2L, 1);
+        buffer.flush();
+        buffer.add(2L, 1);
+        buffer.add(5L, 1);
+
+        startBuffer();
+
+        assertThat(wishCount(2L)).isEqualTo(2);
+        assertThat(wishCount(5L)).isEqualTo(1);
+    }
+
+    @DisplayName("정상 종료하면 남은 변화량을 반영하고, 다음 기동 때 복구할 로그가 없다.")
+    @Test
+    void flushOnClose() {
+        buffer.add(2L, 1);
+        buffer.close();
+
+        assertThat(wishCount(2L)).isEqualTo(1);
+
+        startBuffer();
+
+        assertThat(wishCount(2L)).isEqualTo(1);
+    }
+
+    @DisplayName("찜 수가 wish 테이블과 어긋나면 재계산이 차이만큼 맞춘다.")
+    @Test
+    void reconcileDrift() {
+        jdbcTemplate.update("update article set wish_count = 5 where id = 3");
+        jdbcTemplate.update("insert into wish (article_id, member_id) values (2, 1)");
+
+        buffer.reconcile();
+
+        assertThat(wishCount(3L)).isEqualTo(1);
+        assertThat(wishCount(2L)).isEqualTo(1);
+    }
+
+    @DisplayName("커밋됐지만 아직 누적하지 않은 찜은 재계산에서 두 번 세지 않는다.")
+    @Test
+    void reconcileSkipsUnsettledWish() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into wish (article_id, member_id) values (2, 1)");
+            buffer.add(2L, 1);
+            // 커밋 직후, 찜 수 변화량이 누적되기 전에 재계산이 끼어든다.
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        buffer.reconcile();
+                    }
+                });
+        });
+        buffer.flush();
+
+        assertThat(wishCount(2L)).isEqualTo(1);
+
+        buffer.reconcile();
+
+        assertThat(wishCount(2L)).isEqualTo(1);
+    }
+
+    private WishCountBuffer startBuffer() {
+        WishCountBuffer started = new WishCountBuffer(articleRepository, checkpointRepository,
+            transactionManager, logDirectory.toString());
+        started.recover();
+        return started;
+    }
+
+    private int wishCount(Long articleId) {
+        return articleRepository.findById(articleId).get().getWishCount();
+    }
+}
@@ -0,0 +1,166 @@
+package com.codewarts.noriter.article.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.codewarts.noriter.article.repository.ArticleRepository;
+import com.codewarts.noriter.config.DatabaseCleanup;
+import com.codewarts.noriter.exception.GlobalNoriterException;
+import com.codewarts.noriter.exception.type.ArticleExceptionType;
+import com.codewarts.noriter.wish.cache.MemberWishCache;
+import com.codewarts.noriter.wish.counter.WishCountBuffer;
+import com.codewarts.noriter.wish.service.WishService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql("classpath:/data.sql")
+class WishServiceTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int REQUEST_COUNT = 64;
+
+    @Autowired
+    DatabaseCleanup databaseCleanup;
+    @Autowired
+    WishService wishService;
+    @Autowired
+    ArticleRepository articleRepository;
+    @Autowired
+    WishCountBuffer wishCountBuffer;
+    @Autowired
+    MemberWishCache memberWishCache;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanup() {
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.execute();
+    }
+
+    @DisplayName("찜 상태를 같은 값으로 여러 번 바꾸면 처음 한 번만 바뀐다.")
+    @Test
+    void changeIdempotent() {
+        assertThat(wishService.change(1L, 2L, true)).isTrue();
+        assertThat(wishService.change(1L, 2L, true)).isFalse();
+        assertThat(countWishes(2L, 1L)).isEqualTo(1);
+
+        assertThat(wishService.change(1L, 2L, false)).isTrue();
+        assertThat(wishService.change(1L, 2L, false)).isFalse();
+        assertThat(countWishes(2L, 1L)).isZero();
+        wishCountBuffer.flush();
+        assertThat(articleRepository.findById(2L).get().getWishCount()).isZero();
+    }
+
+    @DisplayName("회원 찜 캐시는 처음 조회할 때 적재되고 이후 찜 변경을 반영한다.")
+    @Test
+    void memberWishCache() {
+        assertThat(memberWishCache.findWishedArticleIds(2L, List.of(1L, 2L, 3L, 10L)))
+            .containsExactlyInAnyOrder(1L, 3L, 10L);
+
+        wishService.change(2L, 1L, false);
+        wishService.change(2L, 2L, true);
+
+        assertThat(memberWishCache.contains(2L, 1L)).isFalse();
+        assertThat(memberWishCache.contains(2L, 2L)).isTrue();
+        assertThat(wishService.findWishedArticleIds(2L, List.of(3L, 2L, 1L, 3L)))
+            .containsExactly(3L, 2L);
+    }
+
+    @DisplayName("적재 쿼리의 스냅샷보다 나중에 커밋된 찜도 회원 찜 캐시에서 빠지지 않는다.")
+    @Test
+    void memberWishCacheLoadedFromOlderSnapshot() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        boolean wished = transactionTemplate.execute(status -> {
+            // 조회 트랜잭션의 스냅샷을 만든 뒤, 회원이 캐시에 없는 동안 다른 요청의 찜이 커밋된다.
+            jdbcTemplate.queryForObject("select count(*) from wish", Long.class);
+            CompletableFuture.runAsync(() -> wishService.change(1L, 2L, true)).join();
+            return memberWishCache.contains(1L, 2L);
+        });
+
+        assertThat(wished).isTrue();
+        assertThat(memberWishCache.contains(1L, 2L)).isTrue();
+    }
+
+    @DisplayName("존재하지 않는 게시글의 찜 상태를 바꾸면 예외가 발생한다.")
+    @Test
+    void changeNotExistArticle() {
+        assertThatThrownBy(() -> wishService.change(1L, Long.MAX_VALUE, true))
+            .isInstanceOf(GlobalNoriterException.class)
+            .hasMessage(ArticleExceptionType.ARTICLE_NOT_FOUND.getErrorMessage());
+    }
+
+    @DisplayName("같은 회원이 같은 게시글을 동시에 찜해도 찜은 하나만 남는다.")
+    @Test
+    void concurrentCreate() throws Exception {
+        List<Boolean> results = runConcurrently(() -> wishService.change(1L, 2L, true));
+
+        assertThat(results).containsOnlyOnce(true);
+        assertThat(countWishes(2L, 1L)).isEqualTo(1);
+        wishCountBuffer.flush();
+        assertThat(articleRepository.findById(2L).get().getWishCount()).isEqualTo(1);
+    }
+
+    @DisplayName("같은 회원이 같은 게시글의 찜을 동시에 취소해도 한 번만 취소된다.")
+    @Test
+    void concurrentDelete() throws Exception {
+        List<Boolean> results = runConcurrently(() -> wishService.change(2L, 1L, false));
+
+        assertThat(results).containsOnlyOnce(true);
+        assertThat(countWishes(1L, 2L)).isZero();
+        wishCountBuffer.flush();
+        assertThat(articleRepository.findById(1L).get().getWishCount()).isZero();
+    }
+
+    private List<Boolean> runConcurrently(Callable<Boolean> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int countWishes(Long articleId, Long memberId) {
+        return jdbcTemplate.queryForObject(
+            "select count(*) from wish where article_id = ? and member_id = ?", Integer.class,
+            articleId, memberId);
+    }
+}
@@ -1,11 +1,22 @@
 package com.codewarts.noriter.config;
 
+import com.codewarts.noriter.article.cache.ArticleDetailCache;
+import com.codewarts.noriter.article.cache.ArticleListCache;
+import com.codewarts.noriter.article.search.ArticleSearchIndex;
+import com.codewarts.noriter.article.search.HashtagIndex;
+import com.codewarts.noriter.article.search.HashtagSuggestIndex;
+import com.codewarts.noriter.article.search.TrendingIndex;
+import com.codewarts.noriter.member.cache.MemberCache;
+import com.codewarts.noriter.wish.cache.MemberWishCache;
+import com.codewarts.noriter.wish.counter.WishCountBuffer;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.metamodel.EntityType;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.shaded.com.google.common.base.CaseFormat;
@@ -16,6 +27,33 @@ public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private ArticleListCache articleListCache;
+
+    @Autowired
+    private ArticleDetailCache articleDetailCache;
+
+    @Autowired
+    private ArticleSearchIndex articleSearchIndex;
+
+    @Autowired
+    private HashtagIndex hashtagIndex;
+
+    @Autowired
+    private HashtagSuggestIndex hashtagSuggestIndex;
+
+    @Autowired
+    private TrendingIndex trendingIndex;
+
+    @Autowired
+    private WishCountBuffer wishCountBuffer;
+
+    @Autowired
+    private MemberWishCache memberWishCache;
+
+    @Autowired
+    private MemberCache memberCache;
+
     private List<String> tableNames;
 
     @Override
@@ -24,17 +62,28 @@ public class DatabaseCleanup implements InitializingBean {
             .getEntities()
             .stream()
             .filter(e -> e.getJavaType().getAnnotation(Entity.class) != null)
+            .filter(e -> !(e.getSupertype() instanceof EntityType))
             .map(e -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, e.getName()))
             .collect(Collectors.toList());
     }
 
     @Transactional
     public void execute() {
+        // 주기적인 찜 수 반영이 TRUNCATE 와 겹치지 않도록 먼저 비운다.
+        wishCountBuffer.clear();
         entityManager.flush();
         entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = 0").executeUpdate();
         for (String tableName : tableNames) {
             entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate();
         }
         entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = 1").executeUpdate();
+        articleListCache.clear();
+        articleDetailCache.clear();
+        articleSearchIndex.clear();
+        hashtagIndex.clear();
+        hashtagSuggestIndex.clear();
+        trendingIndex.clear();
+        memberWishCache.clear();
+        memberCache.clear();
     }
 }
@@ -0,0 +1,62 @@
+package com.codewarts.noriter.config;
+
+import com.p6spy.engine.common.PreparedStatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+// p6spy 가 실행한 SQL 을 값이 채워진 문장으로 모은다. 쓰려는 테스트에서 Config 를 @Import 한다.
+public class QueryCapture extends JdbcEventListener {
+
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+    private volatile boolean capturing;
+
+    public List<String> capture(Runnable runnable) {
+        queries.clear();
+        capturing = true;
+        try {
+            runnable.run();
+        } finally {
+            capturing = false;
+        }
+        return new ArrayList<>(queries);
+    }
+
+    @Override
+    public void onAfterExecuteQuery(PreparedStatementInformation statementInformation,
+        long timeElapsedNanos, SQLException e) {
+        record(statementInformation, e);
+    }
+
+    @Override
+    public void onAfterExecuteUpdate(PreparedStatementInformation statementInformation,
+        long timeElapsedNanos, int rowCount, SQLException e) {
+        record(statementInformation, e);
+    }
+
+    @Override
+    public void onAfterExecute(PreparedStatementInformation statementInformation,
+        long timeElapsedNanos, SQLException e) {
+        record(statementInformation, e);
+    }
+
+    private void record(PreparedStatementInformation statementInformation, SQLException e) {
+        if (capturing && Objects.isNull(e)) {
+            queries.add(statementInformation.getSqlWithValues());
+        }
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        QueryCapture queryCapture() {
+            return new QueryCapture();
+        }
+    }
+}